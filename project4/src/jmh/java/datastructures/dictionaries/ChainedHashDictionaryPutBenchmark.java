@@ -0,0 +1,51 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the latency of individual put calls on a growing ChainedHashDictionary.
+ *
+ * The interesting numbers are the high percentiles (p0.9999 and p1.00): with
+ * stop-the-world rehashing a few puts pay for copying the whole table, while
+ * incremental mode should keep the worst case flat.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainedHashDictionaryPutBenchmark {
+    @Param({"false", "true"})
+    public boolean incremental;
+
+    private IDictionary<Integer, Integer> dict;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.dict = new ChainedHashDictionary<>(50, this.incremental);
+        this.next = 0;
+    }
+
+    @Benchmark
+    public void put() {
+        this.dict.put(this.next, this.next);
+        this.next++;
+    }
+}
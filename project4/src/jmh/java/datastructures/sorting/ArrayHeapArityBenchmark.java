@@ -0,0 +1,76 @@
+package datastructures.sorting;
+
+import datastructures.concrete.ArrayHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills an ArrayHeap with n elements and drains it again, for every supported
+ * number of children per node and a few input orders. Sorted input is the best
+ * case for insert, reversed input the worst.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayHeapArityBenchmark {
+    @Param({"2", "4", "8", "16"})
+    public int numChildren;
+
+    @Param({"random", "ascending", "descending"})
+    public String order;
+
+    @Param({"1000000"})
+    public int size;
+
+    private Integer[] items;
+
+    @Setup
+    public void setUp() {
+        Random rand = new Random(42);
+        this.items = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            if (this.order.equals("ascending")) {
+                this.items[i] = i;
+            } else if (this.order.equals("descending")) {
+                this.items[i] = this.size - i;
+            } else {
+                this.items[i] = rand.nextInt();
+            }
+        }
+    }
+
+    @Benchmark
+    public void insertThenDrain(Blackhole bh) {
+        ArrayHeap<Integer> heap = new ArrayHeap<>(this.size + 1, this.numChildren);
+        for (Integer item : this.items) {
+            heap.insert(item);
+        }
+        while (!heap.isEmpty()) {
+            bh.consume(heap.removeMin());
+        }
+    }
+
+    @Benchmark
+    public void heapifyThenDrain(Blackhole bh) {
+        ArrayHeap<Integer> heap = new ArrayHeap<>(this.items, this.numChildren);
+        while (!heap.isEmpty()) {
+            bh.consume(heap.removeMin());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package datastructures.sorting;
+
+import datastructures.concrete.ArrayHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building an ArrayHeap with n separate insert calls against the
+ * bottom-up heapify done by the array constructor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayHeapBuildBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Integer[] items;
+
+    @Setup
+    public void setUp() {
+        Random rand = new Random(42);
+        this.items = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.items[i] = rand.nextInt();
+        }
+    }
+
+    @Benchmark
+    public ArrayHeap<Integer> repeatedInsert() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        for (Integer item : this.items) {
+            heap.insert(item);
+        }
+        return heap;
+    }
+
+    @Benchmark
+    public ArrayHeap<Integer> heapify() {
+        return new ArrayHeap<>(this.items);
+    }
+}
@@ -0,0 +1,148 @@
+package misc.graphs;
+
+import datastructures.concrete.ArrayBackedList;
+import datastructures.interfaces.IList;
+import mazes.entities.Maze;
+import mazes.entities.Wall;
+import mazes.generators.base.GridGenerator;
+import mazes.generators.base.VoronoiGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.Rectangle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the minimum spanning tree of a graph with every MST algorithm, on the
+ * shapes of graph the thresholds behind MstAlgorithm.AUTO are tuned for:
+ *
+ * - grid: a grid maze, about 2 edges per room.
+ * - voronoi: a Voronoi maze, about 3 edges per room.
+ * - dense-k: rooms laid out on a grid, each connected to its k nearest rooms
+ *   further along the grid, so k edges per room (k is at most 12). The values
+ *   swept bracket PRIM_DENSITY_THRESHOLD.
+ *
+ * Walls get random weights, the same way KruskalMazeCarver assigns them. The
+ * graph's adjacency is built during setup, so only the algorithms themselves
+ * are measured. Run with several threads to compare against Boruvka's algorithm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinimumSpanningTreeBenchmark {
+    @Param({"grid", "voronoi", "dense-2", "dense-3", "dense-4", "dense-6", "dense-8", "dense-12"})
+    public String shape;
+
+    @Param({"10000", "100000"})
+    public int numRooms;
+
+    @Param({"KRUSKAL", "PRIM", "BORUVKA"})
+    public Graph.MstAlgorithm algorithm;
+
+    private Graph<?, ?> graph;
+
+    @Setup
+    public void setUp() {
+        Random rand = new Random(42);
+        if (this.shape.startsWith("dense-")) {
+            int edgesPerRoom = Integer.parseInt(this.shape.substring("dense-".length()));
+            this.graph = buildDenseGraph(this.numRooms, edgesPerRoom, rand);
+        } else {
+            int side = (int) Math.sqrt(this.numRooms);
+            //leave every room about as much space as the GUI does
+            Rectangle boundingBox = new Rectangle(0, 0, 30 * side, 30 * side);
+            Maze maze;
+            if (this.shape.equals("grid")) {
+                maze = new GridGenerator(side, side).generateBaseMaze(boundingBox);
+            } else {
+                maze = new VoronoiGenerator(this.numRooms, 10, 10, 5).generateBaseMaze(boundingBox);
+            }
+            for (Wall wall : maze.getWalls()) {
+                wall.setDistance(rand.nextDouble());
+            }
+            this.graph = new Graph<>(maze.getRooms(), maze.getWalls(), true);
+        }
+        this.graph.findMinimumSpanningTree(Graph.MstAlgorithm.KRUSKAL);
+    }
+
+    @Benchmark
+    public void findMinimumSpanningTree(Blackhole bh) {
+        bh.consume(this.graph.findMinimumSpanningTree(this.algorithm));
+    }
+
+    // Offsets (rows, columns) from a room to the rooms after it on the grid,
+    // nearest first; a room is connected to the first k of them.
+    private static final int[][] NEIGHBOR_OFFSETS = {
+        {0, 1}, {1, 0}, {1, -1}, {1, 1}, {0, 2}, {2, 0},
+        {1, -2}, {1, 2}, {2, -1}, {2, 1}, {2, -2}, {2, 2}
+    };
+
+    private static Graph<Integer, DenseEdge> buildDenseGraph(int numRooms, int edgesPerRoom, Random rand) {
+        if (edgesPerRoom > NEIGHBOR_OFFSETS.length) {
+            throw new IllegalArgumentException("at most " + NEIGHBOR_OFFSETS.length + " edges per room");
+        }
+        int side = (int) Math.sqrt(numRooms);
+        IList<Integer> vertices = new ArrayBackedList<>(side * side);
+        IList<DenseEdge> edges = new ArrayBackedList<>(edgesPerRoom * side * side);
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int vertex = row * side + col;
+                vertices.add(vertex);
+                for (int i = 0; i < edgesPerRoom; i++) {
+                    int otherRow = row + NEIGHBOR_OFFSETS[i][0];
+                    int otherCol = col + NEIGHBOR_OFFSETS[i][1];
+                    if (otherRow < side && otherCol >= 0 && otherCol < side) {
+                        edges.add(new DenseEdge(vertex, otherRow * side + otherCol, rand.nextDouble()));
+                    }
+                }
+            }
+        }
+        return new Graph<>(vertices, edges, true);
+    }
+
+    private static class DenseEdge implements Edge<Integer>, Comparable<DenseEdge> {
+        private final int vertex1;
+        private final int vertex2;
+        private final double weight;
+
+        public DenseEdge(int vertex1, int vertex2, double weight) {
+            this.vertex1 = vertex1;
+            this.vertex2 = vertex2;
+            this.weight = weight;
+        }
+
+        @Override
+        public Integer getVertex1() {
+            return this.vertex1;
+        }
+
+        @Override
+        public Integer getVertex2() {
+            return this.vertex2;
+        }
+
+        @Override
+        public double getWeight() {
+            return this.weight;
+        }
+
+        @Override
+        public int compareTo(DenseEdge other) {
+            return Double.compare(this.weight, other.weight);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An IList backed by a growable array.
+ *
+ * Unlike DoubleLinkedList, get and set run in O(1) time, and add/remove at the
+ * end run in amortized O(1) time. Inserting or deleting anywhere else still has
+ * to shift every later element over by one.
+ *
+ * See IList for more details on what each method should do.
+ */
+public class ArrayBackedList<T> implements IList<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // Invariant: the elements live in items[0] through items[size - 1];
+    // every slot after that is null.
+    private T[] items;
+    private int size;
+
+    public ArrayBackedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list that can hold 'initialCapacity' elements before
+     * it needs to grow.
+     *
+     * @throws IllegalArgumentException  if initialCapacity < 0
+     */
+    public ArrayBackedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.items = makeArrayOfT(initialCapacity);
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] makeArrayOfT(int size) {
+        return (T[]) new Object[size];
+    }
+
+    /**
+     * Grows the backing array, if necessary, so it can hold at least
+     * 'minCapacity' elements without needing to grow again.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.items.length) {
+            int newCapacity = Math.max(minCapacity, this.items.length * 2);
+            T[] temp = makeArrayOfT(newCapacity);
+            System.arraycopy(this.items, 0, temp, 0, this.size);
+            this.items = temp;
+        }
+    }
+
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("index does not exist");
+        }
+    }
+
+    @Override
+    public void add(T item) {
+        if (this.size == this.items.length) {
+            this.ensureCapacity(this.size + 1);
+        }
+        this.items[this.size] = item;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        T temp = this.items[this.size];
+        this.items[this.size] = null;
+        return temp;
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index, this.size);
+        return this.items[index];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index, this.size);
+        this.items[index] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        this.checkIndex(index, this.size + 1);
+        if (this.size == this.items.length) {
+            this.ensureCapacity(this.size + 1);
+        }
+        System.arraycopy(this.items, index, this.items, index + 1, this.size - index);
+        this.items[index] = item;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index, this.size);
+        T temp = this.items[index];
+        System.arraycopy(this.items, index + 1, this.items, index, this.size - index - 1);
+        this.size--;
+        this.items[this.size] = null;
+        return temp;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.items[i] == item || (item != null && item.equals(this.items[i]))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayBackedListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        this.checkIndex(index, this.size + 1);
+        return new ArrayBackedListIterator(index);
+    }
+
+    /**
+     * A cursor positioned before items[current]. 'lastReturned' is the index
+     * of the element most recently returned by next() or previous(), or -1 if
+     * remove() or add() has been called since.
+     *
+     * Moving and set() take O(1) time; remove() and add() have to shift the
+     * rest of the array over, just like delete() and insert().
+     */
+    private class ArrayBackedListIterator implements ListIterator<T> {
+        private int current;
+        private int lastReturned;
+
+        public ArrayBackedListIterator(int current) {
+            this.current = current;
+            this.lastReturned = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.current < size;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.current;
+            this.current++;
+            return items[this.lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return this.current > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!this.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            this.current--;
+            this.lastReturned = this.current;
+            return items[this.current];
+        }
+
+        @Override
+        public int nextIndex() {
+            return this.current;
+        }
+
+        @Override
+        public int previousIndex() {
+            return this.current - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (this.lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            delete(this.lastReturned);
+            if (this.lastReturned < this.current) {
+                this.current--;
+            }
+            this.lastReturned = -1;
+        }
+
+        @Override
+        public void set(T item) {
+            if (this.lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            items[this.lastReturned] = item;
+        }
+
+        @Override
+        public void add(T item) {
+            insert(this.current, item);
+            this.current++;
+            this.lastReturned = -1;
+        }
+    }
+}
@@ -2,8 +2,7 @@ package datastructures.concrete;
 
 
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
+import datastructures.concrete.dictionaries.ObjectIntDictionary;
 import datastructures.interfaces.IDisjointSet;
 
 /**
@@ -15,15 +14,12 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
     private int[] pointers;
 
     
-    //stores the vertices traversed for findSet path compression
-    private int[] verticesTraversed;
-    
     //stores the current value of an integer representative,
     //which increases by 1 each time an item is added
     private int currentVertex;
     
     //stores the generic items and their integer representatives
-    private IDictionary<T, Integer> ids;
+    private ObjectIntDictionary<T> ids;
 
     // However, feel free to add more methods and private helper methods.
     // You will probably need to add one or two more fields in order to
@@ -32,88 +28,90 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
     public ArrayDisjointSet() {
         pointers = new int[50];
         currentVertex = 0;
-        ids = new ChainedHashDictionary<T, Integer>();
-        verticesTraversed= new int[50];
-        
-        
+        ids = new ObjectIntDictionary<T>();
     }
 
     //if trying to make a set whose item already exists in another set then
     //an exception will be thrown
     @Override
-    public void makeSet(T item) {
+    public int makeSet(T item) {
         if (ids.containsKey(item)) {
             throw new IllegalArgumentException();
         } if (currentVertex == pointers.length) {
             resize();
         }
-            pointers[currentVertex] = -1;
-            ids.put(item, currentVertex);
-            
-
-
-            currentVertex++;
+        pointers[currentVertex] = -1;
+        ids.put(item, currentVertex);
+        currentVertex++;
+        return currentVertex - 1;
     }
 
     //returns the representative of the set / the index of the pointers array
     @Override
     public int findSet(T item) {
-        if (!ids.containsKey(item)) {
+        int vertex = ids.getOrDefault(item, -1);
+        if (vertex == -1) {
             throw new IllegalArgumentException();
         }
-        int vertex = ids.get(item);
-        int parent = pointers[vertex];
-        
-        
-        int counter = 0;
-        
-        boolean hasFound = false;         
-        while (!hasFound) {
-            if (parent < 0) {
+        return findRoot(vertex);
+    }
 
-                hasFound = true;
-                
-                for (int i = 0; i < counter; i++) {
-                    pointers[verticesTraversed[i]] = vertex;
-                }
-                
-                return vertex;
-                
-            } else {
-                verticesTraversed[counter] = vertex;
-                counter++;
-                
-                vertex = parent;
-                parent = pointers[parent];
-                
+    @Override
+    public int find(int id) {
+        checkId(id);
+        return findRoot(id);
+    }
+
+    //walks up to the root, pointing every other vertex on the way at its
+    //grandparent (path halving), so no scratch space is needed
+    private int findRoot(int vertex) {
+        int parent = pointers[vertex];
+        while (parent >= 0) {
+            int grandparent = pointers[parent];
+            if (grandparent < 0) {
+                return parent;
             }
+            pointers[vertex] = grandparent;
+            vertex = grandparent;
+            parent = pointers[vertex];
         }
-        return -1;
+        return vertex;
     }
 
     @Override
     public void union(T item1, T item2) {
-        if (!ids.containsKey(item1) || !ids.containsKey(item2)) {
-            throw new IllegalArgumentException();
-        }
-        
-        int leftVertex = findSet(item1);
-        int rightVertex = findSet(item2);
-        
+        //findSet throws if either item is missing
+        link(findSet(item1), findSet(item2));
+    }
+
+    @Override
+    public void unionIds(int id1, int id2) {
+        checkId(id1);
+        checkId(id2);
+        link(findRoot(id1), findRoot(id2));
+    }
+
+    //joins the two trees with the given roots, by rank: roots store their
+    //rank as a negative number, and the shallower tree goes under the deeper one
+    private void link(int leftVertex, int rightVertex) {
         if (leftVertex == rightVertex) {
             throw new IllegalArgumentException();
         }
         
-        
         if (pointers[leftVertex] < pointers[rightVertex]) {
             pointers[rightVertex] = leftVertex;
         } else if (pointers[leftVertex] > pointers[rightVertex]) {
             pointers[leftVertex] = rightVertex;
-        } else if (pointers[leftVertex] == pointers[rightVertex]) {
+        } else {
             pointers[leftVertex] = rightVertex;
             pointers[rightVertex]--;
         }
-        
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= currentVertex) {
+            throw new IllegalArgumentException();
+        }
     }
     
     //returns the integer representative of the given item
@@ -127,6 +125,5 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
             temp[i] = pointers[i];
         }
         pointers = temp;
-        verticesTraversed = new int[pointers.length * 2];
     }
 }
@@ -1,14 +1,21 @@
 package datastructures.concrete;
 
 import java.util.NoSuchElementException;
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 
 /**
+ * A d-ary heap: every node has up to 'numChildren' children, stored in level
+ * order in a single array. A wider fan-out makes the tree shallower (cheaper
+ * inserts) at the cost of more comparisons per level in removeMin; 4 is the
+ * default.
+ *
  * See IPriorityQueue for details on what each method must do.
  */
 public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     // See spec: you must implement a implement a 4-heap.
     private static final int NUM_CHILDREN = 4;
+    private static final int DEFAULT_SIZE = 50;
 
     // You MUST use this field to store the contents of your heap.
     // You may NOT rename this field: we will be inspecting it within
@@ -16,19 +23,74 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     private T[] heap;
     private int totalSize;
     private int elementSize;
+    private int numChildren;
     
     // Feel free to add more fields and constants.
 
     public ArrayHeap() {
-        elementSize = 0;
-        totalSize = 50;
-        heap = makeArrayOfT(50);
+        this(DEFAULT_SIZE);
     }
     
     public ArrayHeap(int size) {
+        this(size, NUM_CHILDREN);
+    }
+
+    /**
+     * Creates an empty heap with room for 'size' elements where every node has
+     * up to 'numChildren' children.
+     *
+     * @throws IllegalArgumentException  if numChildren is not 2, 4, 8 or 16
+     */
+    public ArrayHeap(int size, int numChildren) {
+        if (numChildren != 2 && numChildren != 4 && numChildren != 8 && numChildren != 16) {
+            throw new IllegalArgumentException("unsupported number of children: " + numChildren);
+        }
+        this.numChildren = numChildren;
         elementSize = 0;
-        totalSize = size;
-        heap = makeArrayOfT(size);
+        totalSize = Math.max(size, 1);
+        heap = makeArrayOfT(totalSize);
+    }
+
+    /**
+     * Creates a heap containing every element of 'items' in O(n) time.
+     *
+     * @throws IllegalArgumentException  if any of the items is null
+     */
+    public ArrayHeap(T[] items) {
+        this(items, NUM_CHILDREN);
+    }
+
+    /**
+     * Creates a heap with the given number of children per node containing
+     * every element of 'items' in O(n) time.
+     *
+     * @throws IllegalArgumentException  if numChildren is not 2, 4, 8 or 16
+     * @throws IllegalArgumentException  if any of the items is null
+     */
+    public ArrayHeap(T[] items, int numChildren) {
+        this(items.length + 1, numChildren);
+        insertAll(items);
+    }
+
+    /**
+     * Creates a heap containing every element of 'items' in O(n) time.
+     *
+     * @throws IllegalArgumentException  if any of the items is null
+     */
+    public ArrayHeap(IList<T> items) {
+        this(items, NUM_CHILDREN);
+    }
+
+    /**
+     * Creates a heap with the given number of children per node containing
+     * every element of 'items' in O(n) time.
+     *
+     * @throws IllegalArgumentException  if numChildren is not 2, 4, 8 or 16
+     * @throws IllegalArgumentException  if any of the items is null
+     */
+    public ArrayHeap(IList<T> items, int numChildren) {
+        this(items.size() + 1, numChildren);
+        insertAll(items);
     }
 
     /**
@@ -54,37 +116,40 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         }
         
         T minValue = heap[0];
-        heap[0] = heap[elementSize - 1];
-
-        heap[elementSize-1] = null;
-        
         elementSize--;
-
-        percolateDown(0);
+        T last = heap[elementSize];
+        heap[elementSize] = null;
+        if (elementSize > 0) {
+            percolateDown(0, last);
+        }
         
         return minValue;
     }
     
-    private void percolateDown(int curIndex) {
-        int minChildIndex = NUM_CHILDREN * curIndex + 1;
-        for (int i = 2; i <= NUM_CHILDREN; i++) {
-            int childIndex = 4 * curIndex + i;
-            if (childIndex < elementSize && 
-                    heap[childIndex] != null && 
-                    heap[childIndex].compareTo(heap[minChildIndex]) < 0) {
-                minChildIndex = childIndex;
+    //places 'item' into the hole at 'curIndex', moving smaller children up
+    //into the hole until 'item' is no bigger than any of its children
+    private void percolateDown(int curIndex, T item) {
+        int size = elementSize;
+        int firstChild = numChildren * curIndex + 1;
+        while (firstChild < size) {
+            int lastChild = Math.min(firstChild + numChildren, size);
+            int minChildIndex = firstChild;
+            T minChild = heap[firstChild];
+            for (int childIndex = firstChild + 1; childIndex < lastChild; childIndex++) {
+                T child = heap[childIndex];
+                if (child.compareTo(minChild) < 0) {
+                    minChildIndex = childIndex;
+                    minChild = child;
+                }
+            }
+            if (minChild.compareTo(item) >= 0) {
+                break;
             }
+            heap[curIndex] = minChild;
+            curIndex = minChildIndex;
+            firstChild = numChildren * curIndex + 1;
         }
-        
-        if (minChildIndex < elementSize && 
-                heap[minChildIndex].compareTo(heap[curIndex]) < 0) {
-        
-            T temp = heap[minChildIndex];
-            heap[minChildIndex] = heap[curIndex];
-            heap[curIndex] = temp;
-        
-            percolateDown(minChildIndex);
-        } 
+        heap[curIndex] = item;
     }
 
     @Override
@@ -95,43 +160,127 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         return heap[0];
     }
 
+    /**
+     * Replaces the smallest element with 'item' and returns the old smallest
+     * element, using a single percolate down instead of a removeMin followed
+     * by an insert.
+     */
+    @Override
+    public T replaceMin(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (elementSize == 0) {
+            throw new NoSuchElementException();
+        }
+        T minValue = heap[0];
+        percolateDown(0, item);
+        return minValue;
+    }
+
     @Override
     public void insert(T item) {
         if (item == null) {
             throw new IllegalArgumentException();
         }
         
-        elementSize++;
         if (elementSize == totalSize) {
-            resize();
+            ensureCapacity(elementSize + 1);
         }
+        elementSize++;
 
-        heap[elementSize - 1] = item;
-
-        percolateUp(elementSize - 1);
+        percolateUp(elementSize - 1, item);
     }
     
-    private void resize() {
-        T[] temp = makeArrayOfT(totalSize * 2);
-        for (int i = 0; i < elementSize; i++) {
-            temp[i] = heap[i];
+    /**
+     * Inserts every element of 'items' into the heap.
+     *
+     * The items are appended to the end of the array in one go, and the heap is
+     * then rebuilt bottom-up (Floyd's algorithm), which takes O(n) time instead of
+     * the O(n log n) needed for n separate calls to insert. If the batch is small
+     * compared to the heap, each item is percolated up on its own instead.
+     *
+     * @throws IllegalArgumentException  if any of the items is null; in that case
+     *                                   the heap is left unchanged
+     */
+    public void insertAll(T[] items) {
+        for (T item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException();
+            }
         }
-        
-        totalSize = totalSize * 2;
-        heap = temp;
+        int start = elementSize;
+        ensureCapacity(elementSize + items.length + 1);
+        System.arraycopy(items, 0, heap, elementSize, items.length);
+        elementSize += items.length;
+        restoreAfterAppend(start);
     }
-    
-    private void percolateUp(int curIndex) {
-        if (curIndex != 0) {
-                int parentIndex = (curIndex-1) / 4;
-                if (heap[parentIndex].compareTo(heap[curIndex]) > 0) {
-                    T temp = heap[parentIndex];
-                    heap[parentIndex] = heap[curIndex];
-                    heap[curIndex] = temp;
-                
-                    percolateUp(parentIndex);
+
+    /**
+     * Inserts every element of 'items' into the heap.
+     *
+     * See insertAll(T[]) for details.
+     *
+     * @throws IllegalArgumentException  if any of the items is null; in that case
+     *                                   the heap is left unchanged
+     */
+    public void insertAll(IList<T> items) {
+        int start = elementSize;
+        ensureCapacity(elementSize + items.size() + 1);
+        for (T item : items) {
+            if (item == null) {
+                //undo the partial append so the heap stays valid
+                for (int i = start; i < elementSize; i++) {
+                    heap[i] = null;
+                }
+                elementSize = start;
+                throw new IllegalArgumentException();
+            }
+            heap[elementSize] = item;
+            elementSize++;
+        }
+        restoreAfterAppend(start);
+    }
+
+    //restores the heap property after heap[start] through heap[elementSize - 1]
+    //have been appended without being percolated
+    private void restoreAfterAppend(int start) {
+        int added = elementSize - start;
+        if (added >= start / 2) {
+            //a big batch: heapify the whole array, last parent first
+            for (int i = (elementSize - 2) / numChildren; i >= 0; i--) {
+                percolateDown(i, heap[i]);
+            }
+        } else {
+            for (int i = start; i < elementSize; i++) {
+                percolateUp(i, heap[i]);
+            }
+        }
+    }
+
+    //grows the array so it can hold at least 'minSize' elements
+    private void ensureCapacity(int minSize) {
+        if (minSize > totalSize) {
+            T[] temp = makeArrayOfT(Math.max(minSize, totalSize * 2));
+            System.arraycopy(heap, 0, temp, 0, elementSize);
+            totalSize = temp.length;
+            heap = temp;
+        }
+    }
+
+    //places 'item' into the hole at 'curIndex', moving bigger parents down
+    //into the hole until 'item' is no smaller than its parent
+    private void percolateUp(int curIndex, T item) {
+        while (curIndex > 0) {
+            int parentIndex = (curIndex - 1) / numChildren;
+            T parent = heap[parentIndex];
+            if (parent.compareTo(item) <= 0) {
+                break;
             }
+            heap[curIndex] = parent;
+            curIndex = parentIndex;
         }
+        heap[curIndex] = item;
     }
 
     @Override
@@ -19,6 +19,15 @@ public class ChainedHashSet<T> implements ISet<T> {
         this.map = new ChainedHashDictionary<>();
     }
 
+    /**
+     * Creates a set backed by the given (empty) dictionary, so callers can pick
+     * a different dictionary implementation, such as RobinHoodHashDictionary,
+     * for hot paths.
+     */
+    public ChainedHashSet(IDictionary<T, Boolean> map) {
+        this.map = map;
+    }
+
     @Override
     public void add(T item) {
         this.map.put(item, true);
@@ -0,0 +1,154 @@
+package datastructures.concrete;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A disjoint set over the ids 0 through size - 1 that many threads can use at
+ * the same time without locking.
+ *
+ * Unlike IDisjointSet, items are identified only by their integer id, and every
+ * id starts out in its own set. Ids can be mapped to and from items ahead of
+ * time, the same way Graph does for ArrayDisjointSet.
+ *
+ * Every parent pointer lives in an AtomicIntegerArray:
+ *
+ * - find uses path splitting: every vertex on the path is pointed at its
+ *   grandparent with a single compareAndSet. A failed compareAndSet just means
+ *   another thread already shortened the path, so find never retries or waits.
+ * - union links one root under the other with a compareAndSet that only succeeds
+ *   while the linked vertex is still a root, and retries otherwise.
+ *
+ * Roots are always linked under the root with the higher priority, where the
+ * priority is a fixed hash of the id (ties broken by the id itself). Since every
+ * parent pointer goes from a lower priority to a higher one, no interleaving of
+ * operations can create a cycle, and the hashing keeps trees shallow no matter
+ * which order the ids are unioned in.
+ */
+public class ConcurrentDisjointSet {
+    // Invariant: parents.get(i) == i if and only if i is the root of its set.
+    private final AtomicIntegerArray parents;
+    private final AtomicInteger numSets;
+
+    /**
+     * Creates a disjoint set where each of the ids 0 through size - 1 is in a set
+     * of its own.
+     *
+     * @throws IllegalArgumentException  if size < 0
+     */
+    public ConcurrentDisjointSet(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.parents = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            this.parents.set(i, i);
+        }
+        this.numSets = new AtomicInteger(size);
+    }
+
+    /**
+     * Returns the representative of the set containing the given id.
+     *
+     * If other threads are calling union at the same time, the representative
+     * may change as soon as this method returns.
+     *
+     * @throws IllegalArgumentException  if the id is not in [0, size)
+     */
+    public int find(int id) {
+        this.checkId(id);
+        int vertex = id;
+        while (true) {
+            int parent = this.parents.get(vertex);
+            if (parent == vertex) {
+                return vertex;
+            }
+            int grandparent = this.parents.get(parent);
+            if (grandparent != parent) {
+                this.parents.compareAndSet(vertex, parent, grandparent);
+            }
+            vertex = parent;
+        }
+    }
+
+    /**
+     * Combines the sets containing the two ids.
+     *
+     * Returns 'true' if this call merged two different sets, and 'false' if the
+     * ids were already in the same set. When several threads union ids of the
+     * same two sets at once, exactly one of them gets 'true'.
+     *
+     * @throws IllegalArgumentException  if either id is not in [0, size)
+     */
+    public boolean union(int id1, int id2) {
+        while (true) {
+            int root1 = this.find(id1);
+            int root2 = this.find(id2);
+            if (root1 == root2) {
+                return false;
+            }
+            if (hasPriority(root1, root2)) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            //only succeeds if root1 has not been linked somewhere else meanwhile
+            if (this.parents.compareAndSet(root1, root1, root2)) {
+                this.numSets.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns 'true' if the two ids are currently in the same set.
+     *
+     * @throws IllegalArgumentException  if either id is not in [0, size)
+     */
+    public boolean sameSet(int id1, int id2) {
+        while (true) {
+            int root1 = this.find(id1);
+            int root2 = this.find(id2);
+            if (root1 == root2) {
+                return true;
+            }
+            //if root1 is still a root, the two really were apart at that moment;
+            //otherwise a concurrent union moved it, so look again
+            if (this.parents.get(root1) == root1) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of ids in this disjoint set.
+     */
+    public int size() {
+        return this.parents.length();
+    }
+
+    /**
+     * Returns the current number of disjoint sets.
+     */
+    public int numSets() {
+        return this.numSets.get();
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= this.parents.length()) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    //returns 'true' if roots should be linked under 'a' rather than 'b'
+    private static boolean hasPriority(int a, int b) {
+        int priorityA = mix(a);
+        int priorityB = mix(b);
+        return priorityA > priorityB || (priorityA == priorityB && a > b);
+    }
+
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
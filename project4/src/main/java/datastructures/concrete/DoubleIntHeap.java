@@ -0,0 +1,229 @@
+package datastructures.concrete;
+
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A 4-heap of (double key, int payload) pairs, ordered by key.
+ *
+ * Keys and payloads live in parallel primitive arrays, so comparing two
+ * entries is a plain double comparison: there is no boxing, no virtual
+ * compareTo call, and no allocation once the arrays are big enough.
+ *
+ * A heap created with an id range also keeps track of where every payload
+ * lives. Payloads must then be ids in [0, idRange), each present at most once,
+ * and contains and decreaseKey become available.
+ *
+ * This class does not implement IPriorityQueue, since that interface works on
+ * Comparable objects. Otherwise, every method behaves like its IPriorityQueue
+ * counterpart.
+ */
+public class DoubleIntHeap {
+    private static final int NUM_CHILDREN = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Invariants: keys[0..size-1] form a valid 4-heap, and payloads[i] belongs
+    // to keys[i]. If 'positions' is not null, positions[id] is the index of the
+    // payload 'id' in the heap, or -1 if it is not in the heap.
+    private double[] keys;
+    private int[] payloads;
+    private int[] positions;
+    private int size;
+
+    public DoubleIntHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty heap with room for 'capacity' entries.
+     */
+    public DoubleIntHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.keys = new double[Math.max(capacity, 1)];
+        this.payloads = new int[this.keys.length];
+        this.size = 0;
+    }
+
+    /**
+     * Creates an empty heap whose payloads are ids in [0, idRange). The heap
+     * remembers where each id lives, which makes contains and decreaseKey
+     * available.
+     */
+    public DoubleIntHeap(int capacity, int idRange) {
+        this(capacity);
+        if (idRange < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.positions = new int[idRange];
+        Arrays.fill(this.positions, -1);
+    }
+
+    private static void checkKey(double key) {
+        if (Double.isNaN(key)) {
+            throw new IllegalArgumentException("key must not be NaN");
+        }
+    }
+
+    /**
+     * Inserts the given pair into the heap.
+     *
+     * @throws IllegalArgumentException  if the key is NaN
+     * @throws IllegalArgumentException  if this heap tracks ids and the payload is
+     *                                   out of range or already in the heap
+     */
+    public void insert(double key, int payload) {
+        checkKey(key);
+        if (this.positions != null && (payload < 0 || payload >= this.positions.length
+                || this.positions[payload] != -1)) {
+            throw new IllegalArgumentException();
+        }
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.keys.length * 2);
+            this.payloads = Arrays.copyOf(this.payloads, this.keys.length);
+        }
+        this.size++;
+        this.percolateUp(this.size - 1, key, payload);
+    }
+
+    /**
+     * Returns, but does not remove, the smallest key in the heap.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public double peekMinKey() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.keys[0];
+    }
+
+    /**
+     * Returns, but does not remove, the payload of the smallest key in the heap.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public int peekMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.payloads[0];
+    }
+
+    /**
+     * Removes the entry with the smallest key and returns its payload. Call
+     * peekMinKey first if the key is needed too.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public int removeMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        int minPayload = this.payloads[0];
+        if (this.positions != null) {
+            this.positions[minPayload] = -1;
+        }
+        this.size--;
+        if (this.size > 0) {
+            this.percolateDown(0, this.keys[this.size], this.payloads[this.size]);
+        }
+        return minPayload;
+    }
+
+    /**
+     * Returns 'true' if the given id is currently in the heap.
+     *
+     * @throws UnsupportedOperationException  if this heap does not track ids
+     */
+    public boolean contains(int id) {
+        if (this.positions == null) {
+            throw new UnsupportedOperationException();
+        }
+        return id >= 0 && id < this.positions.length && this.positions[id] != -1;
+    }
+
+    /**
+     * Lowers the key of the given id to 'newKey'.
+     *
+     * @throws UnsupportedOperationException  if this heap does not track ids
+     * @throws NoSuchElementException  if the id is not in the heap
+     * @throws IllegalArgumentException  if newKey is NaN or bigger than the current key
+     */
+    public void decreaseKey(int id, double newKey) {
+        if (!this.contains(id)) {
+            throw new NoSuchElementException();
+        }
+        checkKey(newKey);
+        int index = this.positions[id];
+        if (newKey > this.keys[index]) {
+            throw new IllegalArgumentException();
+        }
+        this.percolateUp(index, newKey, id);
+    }
+
+    /**
+     * Returns the number of entries in the heap.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns 'true' if the heap is empty, and false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    // Places the pair in the hole at 'index', moving bigger parents down as needed.
+    private void percolateUp(int index, double key, int payload) {
+        while (index > 0) {
+            int parent = (index - 1) / NUM_CHILDREN;
+            double parentKey = this.keys[parent];
+            if (parentKey <= key) {
+                break;
+            }
+            this.place(index, parentKey, this.payloads[parent]);
+            index = parent;
+        }
+        this.place(index, key, payload);
+    }
+
+    // Places the pair in the hole at 'index', moving smaller children up as needed.
+    private void percolateDown(int index, double key, int payload) {
+        double[] keys = this.keys;
+        int size = this.size;
+        int firstChild = NUM_CHILDREN * index + 1;
+        while (firstChild < size) {
+            int lastChild = Math.min(firstChild + NUM_CHILDREN, size);
+            int minChild = firstChild;
+            double minKey = keys[firstChild];
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                double childKey = keys[child];
+                if (childKey < minKey) {
+                    minChild = child;
+                    minKey = childKey;
+                }
+            }
+            if (minKey >= key) {
+                break;
+            }
+            this.place(index, minKey, this.payloads[minChild]);
+            index = minChild;
+            firstChild = NUM_CHILDREN * index + 1;
+        }
+        this.place(index, key, payload);
+    }
+
+    private void place(int index, double key, int payload) {
+        this.keys[index] = key;
+        this.payloads[index] = payload;
+        if (this.positions != null) {
+            this.positions[payload] = index;
+        }
+    }
+}
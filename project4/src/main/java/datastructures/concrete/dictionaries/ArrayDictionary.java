@@ -63,57 +63,31 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
     
     @Override
     public void put(K key, V value) {
-        
-            boolean isOpen = false;
-            boolean isCopy = false;
-            int index = -1;
-            for (int i = 0; i < totalSize; i++) {
-                
-                if (pairs[i] == null) {
-                    isOpen = true;
-                    index = i;
-                    break;
-                }
-                
-                else if (key == null) {
-                    if (pairs[i] != null && pairs[i].key == null) {
-                        pairs[i].value = value;
-                        isCopy = true;
-                        break;
-                    }
-                }
-                
-                else if (pairs[i] != null && 
-                        pairs[i].key != null && 
-                        key != null &&
-                        (pairs[i].key.equals(key) || 
-                         pairs[i].key == key)) {
-                    
-                    pairs[i].value = value;
-                    isCopy = true;
-                    break;
+        // Look through the whole array for the key before reusing a hole,
+        // since removals can leave empty slots in front of existing keys.
+        int open = -1;
+        for (int i = 0; i < totalSize; i++) {
+            if (pairs[i] == null) {
+                if (open == -1) {
+                    open = i;
                 }
-                
-            }
-            
-            if (isOpen && !isCopy) {
-                pairs[index] = new Pair<K, V>(key, value);
-                actualSize++;
+            } else if (pairs[i].key == key || (key != null && key.equals(pairs[i].key))) {
+                pairs[i].value = value;
+                return;
             }
+        }
 
-            else if (!isOpen && !isCopy) {
-                Pair<K, V>[] tempList;
-                tempList = makeArrayOfPairs(totalSize * 2);
-                
-                for (int i = 0; i < totalSize; i++) {
-                        tempList[i] = new Pair<K, V>(pairs[i].key, pairs[i].value);
-                }
-                tempList[totalSize] = new Pair<K, V>(key, value);
-                totalSize = totalSize * 2;
-                actualSize++;
-                pairs = tempList;
+        if (open == -1) {
+            Pair<K, V>[] tempList = makeArrayOfPairs(totalSize * 2);
+            for (int i = 0; i < totalSize; i++) {
+                tempList[i] = pairs[i];
             }
-        
+            open = totalSize;
+            totalSize = totalSize * 2;
+            pairs = tempList;
+        }
+        pairs[open] = new Pair<K, V>(key, value);
+        actualSize++;
     }
 
     @Override
@@ -181,22 +155,25 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
     
     private static class ArrayDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
         private Pair<K, V>[] pairs;
+        // Invariant: 'current' is the index of the next non-null pair,
+        // or pairs.length once there are no pairs left.
         int current;
         
         public ArrayDictionaryIterator(Pair<K, V>[] pairs) {
             this.pairs = pairs;
-            current = -1;
+            current = skipEmpty(0);
         }
         
-        public boolean hasNext() {
-            if (pairs != null && current < pairs.length) {
-                for (int i = current + 1; i < pairs.length; i++) {
-                    if (pairs[i] != null) {
-                        return true;
-                    }
-                }
+        private int skipEmpty(int from) {
+            int i = from;
+            while (i < pairs.length && pairs[i] == null) {
+                i++;
             }
-            return false;
+            return i;
+        }
+        
+        public boolean hasNext() {
+            return current < pairs.length;
         }
         
         public KVPair<K, V> next() {
@@ -204,13 +181,9 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
                 throw new NoSuchElementException();
             }
 
-            current++;
-            for (int i = current; i < pairs.length; i++) {
-                if (pairs[i] != null) {
-                    return new KVPair<K, V>(pairs[i].key, pairs[i].value);
-                }
-            }
-            throw new NoSuchElementException();
+            Pair<K, V> pair = pairs[current];
+            current = skipEmpty(current + 1);
+            return new KVPair<K, V>(pair.key, pair.value);
         }
     }
     
@@ -4,6 +4,7 @@ import datastructures.concrete.KVPair;
 import datastructures.interfaces.IDictionary;
 import misc.exceptions.NoSuchKeyException;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -11,6 +12,10 @@ import java.util.NoSuchElementException;
  * See the spec and IDictionary for more details on what each method should do
  */
 public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
+    // In incremental mode, the number of old buckets each put/remove moves
+    // into the new table while a rehash is in progress.
+    private static final int REHASH_BUCKETS_PER_OPERATION = 8;
+
     // You may not change or rename this field: we will be inspecting
     // it using our private tests.
     private IDictionary<K, V>[] chains;
@@ -19,6 +24,18 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     private int totalSize;
     private double loadFactor;
     
+    // Incremented on every structural change, so iterators can fail fast.
+    private int modCount;
+    
+    // Incremental rehashing state. While a rehash is in progress, 'oldChains'
+    // holds the previous table, and every bucket of it below 'migrateIndex' has
+    // already been moved into 'chains' (and set to null). When no rehash is in
+    // progress, 'oldChains' is null.
+    private boolean incremental;
+    private IDictionary<K, V>[] oldChains;
+    private int migrateIndex;
+    private int minimumSize;
+    
     // You're encouraged to add extra fields (and helper methods) though!
 
     //make basic HashDictionary with 50 'chains'
@@ -38,6 +55,22 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         loadFactor = .7;
     }
 
+    /**
+     * Creates a dictionary with the given initial number of chains.
+     *
+     * If 'incremental' is true, the dictionary never rehashes its whole table
+     * in one go. Instead, growing (or shrinking) allocates the new table and
+     * every following put/remove moves a bounded number of buckets over, so the
+     * worst-case cost of a single call does not depend on the dictionary's size.
+     * In this mode the table grows once the number of elements exceeds the load
+     * factor, and shrinks back (never below 'size') after bulk removals.
+     */
+    public ChainedHashDictionary(int size, boolean incremental) {
+        this(size);
+        this.incremental = incremental;
+        this.minimumSize = size;
+    }
+
     /**
      * This method will return a new, empty array of the given size
      * that can contain IDictionary<K, V> objects.
@@ -54,15 +87,27 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public V get(K key) {
-        int hashVal = getHashVal(key);
+        IDictionary<K, V> bucket = bucketFor(key);
         
-        if (chains[hashVal] == null) {
+        if (bucket == null) {
             throw new NoSuchKeyException();
         } else {
-            return chains[hashVal].get(key);
+            return bucket.get(key);
         }
     }
     
+    //returns the bucket that should contain the given key (possibly null),
+    //checking the old table first if an incremental rehash is in progress
+    private IDictionary<K, V> bucketFor(K key) {
+        if (oldChains != null) {
+            IDictionary<K, V> oldBucket = oldChains[bucketIndex(key, oldChains.length)];
+            if (oldBucket != null && oldBucket.containsKey(key)) {
+                return oldBucket;
+            }
+        }
+        return chains[getHashVal(key)];
+    }
+    
     private void resize() {
         IDictionary<K, V>[] tempList = makeArrayOfChains(totalSize * 2);
         totalSize = totalSize * 2;
@@ -85,13 +130,85 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
             }
         }
         chains = tempList;
+        modCount++;
+    }
+
+    //starts an incremental rehash into a table with the given number of chains
+    private void startRehash(int newSize) {
+        oldChains = chains;
+        migrateIndex = 0;
+        chains = makeArrayOfChains(newSize);
+        totalSize = newSize;
+        chainSize = 0;
+        modCount++;
+    }
+    
+    //moves every entry of the given old bucket into the new table
+    private void migrateBucket(int index) {
+        IDictionary<K, V> bucket = oldChains[index];
+        if (bucket == null) {
+            return;
+        }
+        oldChains[index] = null;
+        for (KVPair<K, V> pair : bucket) {
+            int hashVal = getHashVal(pair.getKey());
+            if (chains[hashVal] == null) {
+                chains[hashVal] = new ArrayDictionary<K, V>();
+                chainSize++;
+            }
+            chains[hashVal].put(pair.getKey(), pair.getValue());
+        }
+        modCount++;
+    }
+    
+    //moves at most REHASH_BUCKETS_PER_OPERATION old buckets into the new table
+    private void rehashStep() {
+        for (int i = 0; i < REHASH_BUCKETS_PER_OPERATION && oldChains != null; i++) {
+            migrateBucket(migrateIndex);
+            migrateIndex++;
+            if (migrateIndex == oldChains.length) {
+                oldChains = null;
+            }
+        }
+    }
+    
+    //in incremental mode, either continues the current rehash or decides
+    //whether a new one should start, based on the number of elements
+    private void updateIncrementalRehash() {
+        if (oldChains != null) {
+            rehashStep();
+        } else if (elementSize > totalSize * loadFactor) {
+            startRehash(totalSize * 2);
+            rehashStep();
+        } else if (totalSize / 2 >= minimumSize && elementSize < totalSize * loadFactor / 4) {
+            startRehash(totalSize / 2);
+            rehashStep();
+        }
+    }
+    
+    /**
+     * Returns 'true' if an incremental rehash is currently in progress.
+     */
+    public boolean isRehashing() {
+        return oldChains != null;
     }
 
     @Override
     public void put(K key, V value) {       
-        //check if there are too many chains in the array,
-        //and if so resize the array
-    
+        //replacing the value of an existing key is not a structural change, so
+        //update it wherever it lives without migrating buckets or rehashing;
+        //that keeps live iterators valid in both modes
+        IDictionary<K, V> existing = bucketFor(key);
+        if (existing != null && existing.containsKey(key)) {
+            existing.put(key, value);
+            return;
+        }
+        
+        //if an incremental rehash is in progress, make sure the key's old
+        //bucket has been moved so we only need to look at the new table
+        if (oldChains != null) {
+            migrateBucket(bucketIndex(key, oldChains.length));
+        }
         
         int hashVal = getHashVal(key);
         
@@ -104,6 +221,7 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
             chains[hashVal].put(key, value);
             elementSize++;
             chainSize++;
+            modCount++;
         }
         //put the key and value into the existing arrayDictionary
         
@@ -112,34 +230,47 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
             
             if (!chains[hashVal].containsKey(key)) {
                 elementSize++;
+                modCount++;
             }
             chains[hashVal].put(key, value);
         }
         
-        if (((double) (chainSize + 1)) / ((double) (totalSize + 1)) > loadFactor) {
+        //check if there are too many chains in the array,
+        //and if so resize the array
+        if (incremental) {
+            updateIncrementalRehash();
+        } else if (((double) (chainSize + 1)) / ((double) (totalSize + 1)) > loadFactor) {
             resize();
         }
     }
 
     @Override
     public V remove(K key) {
+        if (oldChains != null) {
+            migrateBucket(bucketIndex(key, oldChains.length));
+        }
         int hashVal = getHashVal(key);
         
         if (chains[hashVal] == null) {
             throw new NoSuchKeyException();
         }
+        V value = chains[hashVal].remove(key);
         elementSize--;
-        return chains[hashVal].remove(key);
+        modCount++;
+        if (incremental) {
+            updateIncrementalRehash();
+        }
+        return value;
     }
 
     @Override
     public boolean containsKey(K key) {
-        int hashVal = getHashVal(key);
+        IDictionary<K, V> bucket = bucketFor(key);
         
-        if (chains[hashVal] == null) {
+        if (bucket == null) {
             return false;
         } else {
-            return chains[hashVal].containsKey(key);
+            return bucket.containsKey(key);
         }
     }
 
@@ -150,132 +281,109 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     
     //returns the index in the chains array for the given key
     public int getHashVal(K key) {
+        return bucketIndex(key, totalSize);
+    }
+    
+    //returns the index of the given key in a table with the given number of chains
+    private static int bucketIndex(Object key, int tableSize) {
         if (key == null) {
             return 0;
         } else if (key.hashCode() < 0) {
-            return key.hashCode() % totalSize * -1;
+            return key.hashCode() % tableSize * -1;
         } else {
-            return key.hashCode() % totalSize;
+            return key.hashCode() % tableSize;
         }
     }
 
     @Override
     public Iterator<KVPair<K, V>> iterator() {
-        // Note: you do not need to change this method
-        return new ChainedIterator<>(this.chains);
+        return new ChainedIterator<>(this);
     }
 
     /**
-     * Hints:
-     *
-     * 1. You should add extra fields to keep track of your iteration
-     *    state. You can add as many fields as you want. If it helps,
-     *    our reference implementation uses three (including the one we
-     *    gave you).
-     *
-     * 2. Think about what exactly your *invariants* are. Once you've
-     *    decided, write them down in a comment somewhere to help you
-     *    remember.
+     * Walks the buckets in order, keeping a live iterator into the current
+     * bucket so that every entry is visited exactly once and no bucket is
+     * rescanned.
      *
-     * 3. Before you try and write code, try designing an algorithm
-     *    using pencil and paper and run through a few examples by hand.
+     * Invariants:
      *
-     *    We STRONGLY recommend you spend some time doing this before
-     *    coding. Getting the invariants correct can be tricky, and
-     *    running through your proposed algorithm using pencil and
-     *    paper is a good way of helping you iron them out.
+     * 1. 'bucketIterator' is null if and only if there are no entries left;
+     *    otherwise it iterates over chains[index] and has at least one
+     *    entry remaining.
      *
-     * 4. Think about what exactly your *invariants* are. As a 
-     *    reminder, an *invariant* is something that must *always* be 
-     *    true once the constructor is done setting up the class AND 
-     *    must *always* be true both before and after you call any 
-     *    method in your class.
+     * 2. Every bucket before 'index' has already been fully visited. If an
+     *    incremental rehash is in progress, the buckets of the old table come
+     *    first, followed by the buckets of the new one.
      *
-     *    Once you've decided, write them down in a comment somewhere to
-     *    help you remember.
-     *
-     *    You may also find it useful to write a helper method that checks
-     *    your invariants and throws an exception if they're violated.
-     *    You can then call this helper method at the start and end of each
-     *    method if you're running into issues while debugging.
-     *
-     *    (Be sure to delete this method once your iterator is fully working.)
-     *
-     * Implementation restrictions:
-     *
-     * 1. You **MAY NOT** create any new data structures. Iterators
-     *    are meant to be lightweight and so should not be copying
-     *    the data contained in your dictionary to some other data
-     *    structure.
-     *
-     * 2. You **MAY** call the `.iterator()` method on each IDictionary
-     *    instance inside your 'chains' array, however.
+     * The iterator is fail-fast: if the dictionary is structurally modified
+     * after the iterator was created, hasNext() and next() throw a
+     * ConcurrentModificationException.
      */
     private static class ChainedIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private ChainedHashDictionary<K, V> owner;
+        private IDictionary<K, V>[] oldChains;
         private IDictionary<K, V>[] chains;
-        private int step = 0;
-
-        private int index = 0;
         private int limit;
+        private int index;
+        private Iterator<KVPair<K, V>> bucketIterator;
+        private int expectedModCount;
         
-        public ChainedIterator(IDictionary<K, V>[] chains) {
-            this.chains = chains;
-            this.limit = chains.length;
+        public ChainedIterator(ChainedHashDictionary<K, V> owner) {
+            this.owner = owner;
+            this.chains = owner.chains;
+            this.oldChains = owner.oldChains;
+            this.limit = chains.length + (oldChains == null ? 0 : oldChains.length);
+            this.expectedModCount = owner.modCount;
+            this.index = -1;
+            this.bucketIterator = null;
+            advanceToNextBucket();
         }
 
-        @Override
-        public boolean hasNext() {
-            int count = 0;
-
-            for (int i = index; i < limit; i++) {
-                IDictionary<K, V> bucket = chains[i];
-
-                if (bucket != null) {
-                Iterator<KVPair<K, V>> bucketIterator = bucket.iterator();
-                while (bucketIterator.hasNext()) {
-                    count++;
-                    bucketIterator.next();
-                    if (count > step) {
-                        return true;
-                    }
-
-                    }           
+        // Moves to the next bucket that still has entries, or sets
+        // bucketIterator to null if there is none.
+        private void advanceToNextBucket() {
+            bucketIterator = null;
+            for (index++; index < limit; index++) {
+                IDictionary<K, V> bucket = bucketAt(index);
+                if (bucket != null && !bucket.isEmpty()) {
+                    bucketIterator = bucket.iterator();
+                    return;
                 }
-                step = 0;
-                count = 0;
-                index++;
-
             }
-            return false;
-         }
-            
-              
+        }
 
-        @Override
-        public KVPair<K, V> next() {
-            int count = 0;
+        private IDictionary<K, V> bucketAt(int i) {
+            if (oldChains == null) {
+                return chains[i];
+            } else if (i < oldChains.length) {
+                return oldChains[i];
+            } else {
+                return chains[i - oldChains.length];
+            }
+        }
 
-            for (int i = index; i < limit; i++) {
-                IDictionary<K, V> bucket = chains[i];
+        private void checkForComodification() {
+            if (owner.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
 
-                if (bucket != null) {
-                Iterator<KVPair<K, V>> bucketIterator = bucket.iterator();
-                while (bucketIterator.hasNext()) {
-                    count++;
-                    KVPair<K, V> temp = bucketIterator.next();
-                    if (count > step) {
-                        step++;
-                        return temp;
+        @Override
+        public boolean hasNext() {
+            checkForComodification();
+            return bucketIterator != null;
+        }
 
-                    } 
-                }
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
-                step = 0;
-                count = 0;
-                index++;
-
+            KVPair<K, V> pair = bucketIterator.next();
+            if (!bucketIterator.hasNext()) {
+                advanceToNextBucket();
             }
-            throw new NoSuchElementException();    
+            return pair;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,205 @@
+package datastructures.concrete.dictionaries;
+
+import misc.exceptions.NoSuchKeyException;
+
+/**
+ * A hash dictionary from arbitrary keys to primitive ints.
+ *
+ * This class does not implement IDictionary: its whole purpose is to avoid
+ * boxing the values into Integer objects. Otherwise, every method behaves
+ * like its IDictionary counterpart.
+ *
+ * Keys are stored using open addressing with linear probing in flat parallel
+ * arrays; removal uses backward-shift deletion, so no tombstones are needed.
+ */
+public class ObjectIntDictionary<K> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+
+    // Stand-in for the 'null' key so that a null entry in 'keys' always means "empty".
+    private static final Object NULL_KEY = new Object();
+
+    // Invariants: every array has a power-of-two length; keys[i] == null if and
+    // only if slot i is empty, in which case hashes[i] and values[i] are unused.
+    private int[] hashes;
+    private Object[] keys;
+    private int[] values;
+    private int mask;
+    private int shift;
+    private int size;
+    private int threshold;
+
+    public ObjectIntDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a dictionary presized to hold at least 'expectedSize' entries
+     * without needing to resize.
+     */
+    public ObjectIntDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity *= 2;
+        }
+        this.allocate(capacity);
+        this.size = 0;
+    }
+
+    private void allocate(int capacity) {
+        this.hashes = new int[capacity];
+        this.keys = new Object[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return (h ^ (h >>> 16)) * 0x9E3779B9;
+    }
+
+    // Returns the slot containing the given key, or -1 if the key is not present.
+    private int indexOf(Object key) {
+        int hash = hash(key);
+        Object target = key == null ? NULL_KEY : key;
+        int index = hash >>> this.shift;
+        while (this.keys[index] != null) {
+            if (this.hashes[index] == hash) {
+                Object k = this.keys[index];
+                if (k == target || k.equals(target)) {
+                    return index;
+                }
+            }
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public int get(K key) {
+        int index = this.indexOf(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or 'defaultValue' if
+     * the key is not present. Callers typically pass a sentinel that can never
+     * be a real value (such as -1 for ids), so one lookup replaces a
+     * containsKey/get pair.
+     */
+    public int getOrDefault(K key, int defaultValue) {
+        int index = this.indexOf(key);
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary. If the key already exists in the dictionary,
+     * replace its value with the given one.
+     */
+    public void put(K key, int value) {
+        int hash = hash(key);
+        Object k = key == null ? NULL_KEY : key;
+        int index = hash >>> this.shift;
+        while (this.keys[index] != null) {
+            if (this.hashes[index] == hash) {
+                Object existing = this.keys[index];
+                if (existing == k || existing.equals(k)) {
+                    this.values[index] = value;
+                    return;
+                }
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.hashes[index] = hash;
+        this.keys[index] = k;
+        this.values[index] = value;
+        this.size++;
+        if (this.size > this.threshold) {
+            this.resize();
+        }
+    }
+
+    /**
+     * Remove the key-value pair corresponding to the given key from the dictionary.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public int remove(K key) {
+        int index = this.indexOf(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        int removed = this.values[index];
+
+        // Backward-shift deletion: move later entries of the same probe run
+        // into the hole whenever that doesn't put them before their home slot.
+        int hole = index;
+        int next = (hole + 1) & this.mask;
+        while (this.keys[next] != null) {
+            int home = this.hashes[next] >>> this.shift;
+            if (((next - home) & this.mask) >= ((next - hole) & this.mask)) {
+                this.hashes[hole] = this.hashes[next];
+                this.keys[hole] = this.keys[next];
+                this.values[hole] = this.values[next];
+                hole = next;
+            }
+            next = (next + 1) & this.mask;
+        }
+        this.keys[hole] = null;
+
+        this.size--;
+        return removed;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(K key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in this dictionary.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns 'true' if this dictionary is empty and 'false' otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    private void resize() {
+        int[] oldHashes = this.hashes;
+        Object[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+
+        this.allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = oldHashes[i] >>> this.shift;
+                while (this.keys[index] != null) {
+                    index = (index + 1) & this.mask;
+                }
+                this.hashes[index] = oldHashes[i];
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An open-addressing hash dictionary that stores its keys and values in flat
+ * parallel arrays and resolves collisions using Robin Hood linear probing.
+ *
+ * Unlike ChainedHashDictionary, a lookup never has to follow a pointer into a
+ * separate bucket object: it starts at the key's home slot and scans forward
+ * through adjacent slots until it either finds the key or reaches a slot whose
+ * occupant is closer to its own home than we are to ours (at which point the
+ * key cannot be present).
+ *
+ * Removal uses backward-shift deletion instead of tombstones, so the table
+ * never degrades after many removals.
+ *
+ * See IDictionary for more details on what each method should do.
+ */
+public class RobinHoodHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.8;
+
+    // Stand-in for the 'null' key so that a null entry in 'keys' is never ambiguous.
+    private static final Object NULL_KEY = new Object();
+
+    // Invariants:
+    //
+    // - The length of every array is a power of two, and 'mask' is that length minus one.
+    // - hashes[i] == 0 if and only if slot i is empty; otherwise it is the (nonzero)
+    //   mixed hash of keys[i], and the home slot of that entry is hashes[i] >>> shift.
+    // - Walking forward from any entry's home slot to the entry itself never crosses
+    //   an empty slot.
+    private int[] hashes;
+    private Object[] keys;
+    private Object[] values;
+    private int mask;
+    private int shift;
+    private int size;
+    private int threshold;
+
+    // Incremented on every structural change, so iterators can fail fast.
+    private int modCount;
+
+    public RobinHoodHashDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a dictionary presized to hold at least 'expectedSize' entries
+     * without needing to resize.
+     */
+    public RobinHoodHashDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity *= 2;
+        }
+        this.allocate(capacity);
+        this.size = 0;
+        this.modCount = 0;
+    }
+
+    private void allocate(int capacity) {
+        this.hashes = new int[capacity];
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // Mixes the key's hashcode so that the high bits (which pick the home slot)
+    // depend on every bit of the original hashcode. Never returns 0, since 0
+    // marks an empty slot.
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h = (h ^ (h >>> 16)) * 0x9E3779B9;
+        return h == 0 ? 1 : h;
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    // Returns how far the entry with the given hash, stored at slot 'index', is from its home slot.
+    private int probeDistance(int hash, int index) {
+        return (index - (hash >>> this.shift)) & this.mask;
+    }
+
+    // Returns the slot containing the given key, or -1 if the key is not present.
+    private int indexOf(Object key) {
+        int hash = hash(key);
+        Object target = maskNull(key);
+        int index = hash >>> this.shift;
+        int distance = 0;
+        while (true) {
+            int h = this.hashes[index];
+            if (h == 0 || this.probeDistance(h, index) < distance) {
+                return -1;
+            }
+            if (h == hash) {
+                Object k = this.keys[index];
+                if (k == target || k.equals(target)) {
+                    return index;
+                }
+            }
+            index = (index + 1) & this.mask;
+            distance++;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int index = this.indexOf(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return (V) this.values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        int index = this.indexOf(key);
+        return index < 0 ? defaultValue : (V) this.values[index];
+    }
+
+    @Override
+    public void put(K key, V value) {
+        // Look for the key first: replacing a value is not a structural change,
+        // so it must never trigger a resize under a live iterator.
+        int index = this.indexOf(key);
+        if (index >= 0) {
+            this.values[index] = value;
+            return;
+        }
+
+        if (this.size >= this.threshold) {
+            this.resize(this.hashes.length * 2);
+        }
+        this.reinsert(hash(key), maskNull(key), value);
+        this.size++;
+        this.modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int index = this.indexOf(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        V removed = (V) this.values[index];
+
+        // Backward-shift deletion: pull every following entry that isn't already
+        // in its home slot back by one, until we hit an empty slot or an entry
+        // that is exactly where it wants to be.
+        int next = (index + 1) & this.mask;
+        while (this.hashes[next] != 0 && this.probeDistance(this.hashes[next], next) != 0) {
+            this.hashes[index] = this.hashes[next];
+            this.keys[index] = this.keys[next];
+            this.values[index] = this.values[next];
+            index = next;
+            next = (next + 1) & this.mask;
+        }
+        this.hashes[index] = 0;
+        this.keys[index] = null;
+        this.values[index] = null;
+
+        this.size--;
+        this.modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldHashes = this.hashes;
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+
+        this.allocate(newCapacity);
+        this.modCount++;
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                this.reinsert(oldHashes[i], oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    // Inserts an entry known not to already be in the table. Robin Hood: whenever
+    // the entry being placed is further from home than a slot's occupant, it takes
+    // that slot, and probing continues on behalf of the displaced occupant.
+    private void reinsert(int hash, Object key, Object value) {
+        int index = hash >>> this.shift;
+        int distance = 0;
+        while (this.hashes[index] != 0) {
+            int h = this.hashes[index];
+            int existingDistance = this.probeDistance(h, index);
+            if (existingDistance < distance) {
+                Object tempKey = this.keys[index];
+                Object tempValue = this.values[index];
+                this.hashes[index] = hash;
+                this.keys[index] = key;
+                this.values[index] = value;
+                hash = h;
+                key = tempKey;
+                value = tempValue;
+                distance = existingDistance;
+            }
+            index = (index + 1) & this.mask;
+            distance++;
+        }
+        this.hashes[index] = hash;
+        this.keys[index] = key;
+        this.values[index] = value;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new RobinHoodIterator();
+    }
+
+    private class RobinHoodIterator implements Iterator<KVPair<K, V>> {
+        // Invariant: 'index' is the slot of the next entry to return, or
+        // hashes.length if there are no entries left.
+        private int index;
+        private final int expectedModCount;
+
+        public RobinHoodIterator() {
+            this.expectedModCount = modCount;
+            this.index = this.advance(0);
+        }
+
+        private int advance(int from) {
+            int i = from;
+            while (i < hashes.length && hashes[i] == 0) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return this.index < hashes.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(unmaskNull(keys[this.index]), (V) values[this.index]);
+            this.index = this.advance(this.index + 1);
+            return pair;
+        }
+    }
+}
@@ -3,15 +3,20 @@ package datastructures.interfaces;
 /**
  * Represents a collection of non-overlapping (disjoint) sets.
  * The client may create new sets, or merge existing ones.
+ *
+ * Every item gets a dense integer id when its set is created. Clients that keep
+ * those ids around can use find and unionIds, which skip looking the items up.
  */
 public interface IDisjointSet<T> {
     /**
      * Creates a new set containing just the given item.
      * The item is internally assigned an integer id (a 'representative').
      *
+     * Returns the id assigned to the item. Ids are handed out in order, starting at 0.
+     *
      * @throws IllegalArgumentException  if the item is already a part of this disjoint set somewhere
      */
-    public void makeSet(T item);
+    public int makeSet(T item);
 
     /**
      * Returns the integer id (the 'representative') associated with the given item.
@@ -27,4 +32,21 @@ public interface IDisjointSet<T> {
      * @throws IllegalArgumentException  if item1 and item2 are already a part of the same set
      */
     public void union(T item1, T item2);
+
+    /**
+     * Returns the representative of the set containing the item with the given id.
+     *
+     * This returns the same value as findSet does for that item.
+     *
+     * @throws IllegalArgumentException  if no item has been given this id
+     */
+    public int find(int id);
+
+    /**
+     * Combines the sets containing the items with the given ids.
+     *
+     * @throws IllegalArgumentException  if no item has been given id1 or id2
+     * @throws IllegalArgumentException  if the two items are already a part of the same set
+     */
+    public void unionIds(int id1, int id2);
 }
@@ -3,6 +3,7 @@ package datastructures.interfaces;
 import misc.exceptions.EmptyContainerException;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 
 /**
  * Represents a data structure that contains an ordered and indexable sequence of elements.
@@ -80,4 +81,28 @@ public interface IList<T> extends Iterable<T> {
      * Returns an iterator over the contents of this list.
      */
     public Iterator<T> iterator();
+
+    /**
+     * Returns a bidirectional cursor over the contents of this list, positioned
+     * before the element at the given index (so the first call to next() returns
+     * the element at 'index').
+     *
+     * Besides moving forwards and backwards, the cursor can remove or replace the
+     * element most recently returned by next() or previous(), and can insert a new
+     * element at its current position. Implementations should make these operations
+     * as cheap as their data structure allows; for example, they take O(1) time on
+     * a DoubleLinkedList.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index > this.size()
+     */
+    public ListIterator<T> listIterator(int index);
+
+    /**
+     * Returns a bidirectional cursor positioned at the start of this list.
+     *
+     * See listIterator(int) for more details.
+     */
+    public default ListIterator<T> listIterator() {
+        return this.listIterator(0);
+    }
 }
@@ -37,6 +37,23 @@ public interface IPriorityQueue<T extends Comparable<T>> {
      */
     void insert(T item);
 
+    /**
+     * Removes the smallest element in the queue, inserts the given item, and
+     * returns the removed element. The result is the same as calling removeMin
+     * and then insert, but implementations may do it in a single step.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     * @throws IllegalArgumentException  if the item is null
+     */
+    default T replaceMin(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        T minValue = this.removeMin();
+        this.insert(item);
+        return minValue;
+    }
+
     /**
      * This method finds the given item in the heap, and removes it.
      *
@@ -52,6 +69,37 @@ public interface IPriorityQueue<T extends Comparable<T>> {
      */
     void remove(T item);
 
+    /**
+     * Returns 'true' if the given item is currently in the queue, and 'false' otherwise.
+     *
+     * Note: this is an OPTIONAL method, meant for implementations that keep track
+     * of where each item lives.
+     *
+     * @throws  UnsupportedOperationException  if the IPriorityQueue implementation decides not to support this method
+     */
+    default boolean contains(T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Replaces 'oldItem', which must be in the queue, with 'newItem', which must
+     * be no bigger than 'oldItem', and restores the heap order.
+     *
+     * This is the "decrease-key" operation Dijkstra's algorithm relies on: store
+     * entries whose equals() only looks at the vertex, and pass the old and new
+     * entries for a vertex whenever a shorter distance to it is found.
+     *
+     * Note: this is an OPTIONAL method. A valid IPriorityQueue is not
+     * required to support this operation.
+     *
+     * @throws  UnsupportedOperationException  if the IPriorityQueue implementation decides not to support this method
+     * @throws  NoSuchElementException  if 'oldItem' does not exist
+     * @throws  IllegalArgumentException  if 'newItem' is null or bigger than 'oldItem'
+     */
+    default void decreaseKey(T oldItem, T newItem) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Returns the number of elements contained within this queue.
      */
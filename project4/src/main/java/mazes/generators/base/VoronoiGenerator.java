@@ -3,6 +3,7 @@ package mazes.generators.base;
 import datastructures.concrete.ChainedHashSet;
 import datastructures.concrete.DoubleLinkedList;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.RobinHoodHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
@@ -27,6 +28,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
     private int sampleRate;
     private int minimumWallLength;
     private int minimumSpaceFromBoundingBox;
+    private boolean openAddressing;
 
     /**
      * @param numRooms  the number of rooms the graph should contain
@@ -35,10 +37,31 @@ public class VoronoiGenerator extends BaseMazeGenerator {
      * @param minimumSpaceFromBoundingBox  how far away the center of the room should be from the bounding box
      */
     public VoronoiGenerator(int numRooms, int sampleRate, int minimumWallLength, int minimumSpaceFromBoundingBox) {
+        this(numRooms, sampleRate, minimumWallLength, minimumSpaceFromBoundingBox, true);
+    }
+
+    /**
+     * @param numRooms  the number of rooms the graph should contain
+     * @param sampleRate  how many times the algorithm should try and find a good position for a new node
+     * @param minimumWallLength  if a generated wall is less then this length, we don't connect the two adjacent rooms
+     * @param minimumSpaceFromBoundingBox  how far away the center of the room should be from the bounding box
+     * @param openAddressing  if true, the lookup tables used while building the maze are
+     *                        RobinHoodHashDictionary instances; otherwise ChainedHashDictionary
+     */
+    public VoronoiGenerator(int numRooms, int sampleRate, int minimumWallLength, int minimumSpaceFromBoundingBox,
+                            boolean openAddressing) {
         this.numRooms = numRooms;
         this.sampleRate = sampleRate;
         this.minimumWallLength = minimumWallLength;
         this.minimumSpaceFromBoundingBox = minimumSpaceFromBoundingBox;
+        this.openAddressing = openAddressing;
+    }
+
+    private <K, V> IDictionary<K, V> newDictionary(int expectedSize) {
+        if (this.openAddressing) {
+            return new RobinHoodHashDictionary<>(expectedSize);
+        }
+        return new ChainedHashDictionary<>();
     }
 
     public Maze generateBaseMaze(Rectangle boundingBox) {
@@ -60,7 +83,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
 
         // Convert sites into rooms
         ISet<Room> rooms = new ChainedHashSet<>();
-        IDictionary<Point, Room> pointsToSite = new ChainedHashDictionary<>();
+        IDictionary<Point, Room> pointsToSite = this.newDictionary(this.numRooms);
         for (Site site : sites) {
             Room room = this.siteToRoom(site);
             pointsToSite.put(room.getCenter(), room);
@@ -70,7 +93,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
         // Convert sites into walls; build edges
         ISet<Wall> walls = new ChainedHashSet<>();
         ISet<Wall> untouchableWalls = new ChainedHashSet<>();
-        IDictionary<LineSegment, Point> edgeToPoints = new ChainedHashDictionary<>();
+        IDictionary<LineSegment, Point> edgeToPoints = this.newDictionary(0);
         for (Room room : rooms) {
             Point vertex = room.getCenter();
             for (LineSegment seg : this.polygonToLineSegment(room.getPolygon())) {
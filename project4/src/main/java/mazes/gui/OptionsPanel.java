@@ -32,6 +32,10 @@ public class OptionsPanel extends JPanel {
     private Room start;
     private Room end;
 
+    // The graph of the current maze, kept between "Find shortest path" clicks
+    // so repeated queries reuse its adjacency structure. Null until first needed.
+    private Graph<Room, Wall> graph;
+
     public OptionsPanel(ImageDrawer drawer, 
                         IDictionary<String, BaseMazeGenerator> baseGenerators, 
                         IDictionary<String, MazeCarver> baseCarvers) {
@@ -110,6 +114,7 @@ public class OptionsPanel extends JPanel {
         Rectangle bound = drawer.getBoundingBox();
         this.originalMaze = generator.generateBaseMaze(bound);
         this.currentMaze = carver.generateMaze(this.originalMaze);
+        this.graph = null;
 
         this.start = this.currentMaze.getRoom(new Point(bound.x + 5, bound.y + 5));
         this.end = this.currentMaze.getRoom(new Point(bound.x + bound.width - 5, bound.y + bound.height - 5));
@@ -120,11 +125,16 @@ public class OptionsPanel extends JPanel {
     }
 
     private void drawShortestPath(ActionEvent event) {
-        Graph<Room, Wall> graph = new Graph<>(
-                this.originalMaze.getRooms(),
-                this.subtract(this.originalMaze.getWalls(), this.currentMaze.getWalls()));
+        if (this.graph == null) {
+            this.graph = new Graph<>(
+                    this.originalMaze.getRooms(),
+                    this.subtract(this.originalMaze.getWalls(), this.currentMaze.getWalls()));
+        }
         try {
-            IList<Wall> path = graph.findShortestPathBetween(this.start, this.end);
+            //walls weigh the distance between room centers by default, so the
+            //straight-line distance never overestimates and A* stays exact
+            IList<Wall> path = this.graph.findShortestPathBetween(
+                    this.start, this.end, OptionsPanel::straightLineDistance);
             this.drawer.drawPath(path);
         } catch (NoPathExistsException ex) {
             JOptionPane.showMessageDialog(
@@ -133,6 +143,10 @@ public class OptionsPanel extends JPanel {
         }
     }
 
+    private static double straightLineDistance(Room room, Room goal) {
+        return room.getCenter().distance(goal.getCenter());
+    }
+
     private <T> ISet<T> subtract(ISet<T> bigger, ISet<T> smaller) {
         ISet<T> output = new ChainedHashSet<>();
         for (T item : bigger) {
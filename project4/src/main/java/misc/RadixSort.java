@@ -0,0 +1,89 @@
+package misc;
+
+/**
+ * Sorts primitive double keys with a least-significant-digit radix sort.
+ *
+ * Instead of comparing keys, every key is mapped to a long whose unsigned order
+ * matches the numeric order of the doubles, and the longs are distributed by one
+ * byte at a time. That takes at most 8 linear passes no matter how many keys
+ * there are, and passes over bytes that every key shares (for example, the
+ * exponent bits of weights that all lie in a narrow range) are skipped.
+ */
+public class RadixSort {
+    private static final int BITS_PER_DIGIT = 8;
+    private static final int RADIX = 1 << BITS_PER_DIGIT;
+    private static final int NUM_DIGITS = Long.SIZE / BITS_PER_DIGIT;
+
+    /**
+     * Returns the permutation that sorts the given keys from smallest to biggest:
+     * keys[order[0]] is the smallest key, and so on. The sort is stable, so equal
+     * keys keep their original relative order. The keys array is not modified.
+     *
+     * Negative zero sorts just before positive zero, and NaN sorts after
+     * positive infinity.
+     */
+    public static int[] sortedOrder(double[] keys) {
+        int count = keys.length;
+        long[] bits = new long[count];
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            bits[i] = sortableBits(keys[i]);
+            order[i] = i;
+        }
+        if (count < 2) {
+            return order;
+        }
+
+        //count every digit of every key up front, in one pass
+        int[][] histograms = new int[NUM_DIGITS][RADIX];
+        for (int i = 0; i < count; i++) {
+            long key = bits[i];
+            for (int digit = 0; digit < NUM_DIGITS; digit++) {
+                histograms[digit][(int) (key >>> (digit * BITS_PER_DIGIT)) & (RADIX - 1)]++;
+            }
+        }
+
+        long[] bitsBuffer = new long[count];
+        int[] orderBuffer = new int[count];
+        for (int digit = 0; digit < NUM_DIGITS; digit++) {
+            int[] histogram = histograms[digit];
+            int shift = digit * BITS_PER_DIGIT;
+            //if every key has the same value for this digit, the pass would not
+            //change anything
+            if (histogram[(int) (bits[0] >>> shift) & (RADIX - 1)] == count) {
+                continue;
+            }
+
+            //turn the counts into the index where each digit's keys start
+            int total = 0;
+            for (int value = 0; value < RADIX; value++) {
+                int temp = histogram[value];
+                histogram[value] = total;
+                total += temp;
+            }
+            for (int i = 0; i < count; i++) {
+                long key = bits[i];
+                int destination = histogram[(int) (key >>> shift) & (RADIX - 1)]++;
+                bitsBuffer[destination] = key;
+                orderBuffer[destination] = order[i];
+            }
+
+            long[] tempBits = bits;
+            bits = bitsBuffer;
+            bitsBuffer = tempBits;
+            int[] tempOrder = order;
+            order = orderBuffer;
+            orderBuffer = tempOrder;
+        }
+        return order;
+    }
+
+    //maps a double to a long whose order, when compared as unsigned, is the same
+    //as Double.compare's: flip every bit of negatives, and only the sign bit
+    //otherwise. doubleToLongBits collapses every NaN (including ones with the
+    //sign bit set) into the single positive NaN, so NaN always sorts last
+    private static long sortableBits(double key) {
+        long bits = Double.doubleToLongBits(key);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+}
@@ -1,13 +1,33 @@
 package misc;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
-import datastructures.concrete.ArrayHeap;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayBackedList;
 import datastructures.interfaces.IList;
-import datastructures.interfaces.IPriorityQueue;
 
 public class Searcher {
+    /**
+     * When k is at least 1 / FULL_SORT_RATIO of the input, a bounded heap saves
+     * little over sorting everything, so topKSort sorts a copy of the input instead.
+     */
+    private static final int FULL_SORT_RATIO = 2;
+
+    /**
+     * Inputs smaller than this are handled by the sequential topKSort, even when
+     * parallelTopKSort is called: below it, forking costs more than it saves.
+     */
+    public static final int PARALLEL_THRESHOLD = 100000;
+
+    // parallelTopKSort never splits the input into chunks smaller than this.
+    private static final int MIN_CHUNK_SIZE = 4096;
+
+    // parallelTopKSort aims for this many chunks per thread, so threads that
+    // finish early can pick up more work.
+    private static final int CHUNKS_PER_THREAD = 4;
+
     /**
      * This method takes the input list and returns the top k elements
      * in sorted order.
@@ -18,7 +38,8 @@ public class Searcher {
      * If the input list contains fewer then 'k' elements, return
      * a list containing all input.length elements in sorted order.
      *
-     * This method must not modify the input list.
+     * This method must not modify the input list. The returned list is
+     * array-backed, so indexing into it takes O(1) time.
      *
      * @throws IllegalArgumentException  if k < 0
      */
@@ -34,60 +55,210 @@ public class Searcher {
         //
         // - You should implement this method by using your ArrayHeap for the sake of
         //   efficiency.
-        IList<T> sortedList = new DoubleLinkedList<>();
-        IPriorityQueue<T> heap = new ArrayHeap<>();
-        Iterator<T> iterator = input.iterator();
-        
         if (k < 0) {
             throw new IllegalArgumentException();
         }
         
-        else if (k == 0) {
+        int size = input.size();
+        //the output is array-backed so callers can index into it in O(1)
+        IList<T> sortedList = new ArrayBackedList<>(Math.min(k, size));
+        if (k == 0) {
             return sortedList;
         }
-        
-        else if (k >= input.size()) {
-            for (int i = 0; i < input.size(); i++) {
-                T temp = iterator.next();
-                if (temp == null) {
-                throw new IllegalArgumentException();    
-                }else {
-                heap.insert(temp);
-                }
+        topKInto(k, size, input.iterator(), sortedList);
+        return sortedList;
+    }
+
+    /**
+     * Returns the same result as topKSort, using the common ForkJoinPool.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     * @see #parallelTopKSort(int, IList, ForkJoinPool, int)
+     */
+    public static <T extends Comparable<T>> IList<T> parallelTopKSort(int k, IList<T> input) {
+        return parallelTopKSort(k, input, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns the same result as topKSort, but does the work on the given pool.
+     *
+     * The input is copied into an array and split into chunks; every chunk finds
+     * its own top k (a full sort of the chunk when k is large) in parallel, and the
+     * sorted chunk results are then combined with a k-way tournament merge. Inputs
+     * with fewer than 'threshold' elements are handled by topKSort on the calling
+     * thread.
+     *
+     * This method must not modify the input list.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     */
+    public static <T extends Comparable<T>> IList<T> parallelTopKSort(int k, IList<T> input,
+                                                                      ForkJoinPool pool, int threshold) {
+        int size = input.size();
+        if (k <= 0 || size < threshold || size < 2 * MIN_CHUNK_SIZE) {
+            return topKSort(k, input);
+        }
+
+        T[] items = copyToArray(size, input.iterator());
+        int chunks = Math.min(pool.getParallelism() * CHUNKS_PER_THREAD, size / MIN_CHUNK_SIZE);
+        IList<T>[] results = makeArrayOfLists(chunks);
+        pool.invoke(new TopKChunkTask<>(k, items, results, 0, chunks));
+
+        IList<T> sortedList = new ArrayBackedList<>(Math.min(k, size));
+        tournamentMerge(results, Math.min(k, size), sortedList);
+        return sortedList;
+    }
+
+    //writes the top k elements of the next 'size' elements of the iterator into
+    //'output' in sorted order, picking whichever strategy suits the k/size ratio
+    private static <T extends Comparable<T>> void topKInto(int k, int size, Iterator<T> iterator,
+                                                          IList<T> output) {
+        if ((long) k * FULL_SORT_RATIO >= size) {
+            sortTopK(k, size, iterator, output);
+        } else {
+            selectTopK(k, iterator, output);
+        }
+    }
+    
+    //sorts a copy of the whole input, then copies out the biggest k elements
+    private static <T extends Comparable<T>> void sortTopK(int k, int size, Iterator<T> iterator,
+                                                          IList<T> output) {
+        T[] items = copyToArray(size, iterator);
+        Arrays.sort(items);
+        for (int i = Math.max(size - k, 0); i < size; i++) {
+            output.add(items[i]);
+        }
+    }
+    
+    //streams the input through a TopKAccumulator, which keeps only the biggest
+    //k elements seen so far
+    private static <T extends Comparable<T>> void selectTopK(int k, Iterator<T> iterator, IList<T> output) {
+        TopKAccumulator<T> accumulator = new TopKAccumulator<>(k);
+        accumulator.addAll(iterator);
+        accumulator.drainInto(output);
+    }
+    
+    //copies the next 'count' elements of the iterator into a new array
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> T[] copyToArray(int count, Iterator<T> iterator) {
+        T[] items = (T[]) new Comparable[count];
+        for (int i = 0; i < count; i++) {
+            T temp = iterator.next();
+            if (temp == null) {
+                throw new IllegalArgumentException();
             }
-            for (int i = 0; i < input.size(); i++) {
-                sortedList.add(heap.removeMin());
+            items[i] = temp;
+        }
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> IList<T>[] makeArrayOfLists(int size) {
+        return (IList<T>[]) new IList[size];
+    }
+
+    /**
+     * Merges the sorted 'runs', writing the biggest 'count' elements across all of
+     * them into 'output' in sorted order.
+     *
+     * The runs are consumed from their biggest end. A tournament tree over the runs
+     * holds, at every internal node, the run whose current element is bigger, so the
+     * root always names the run holding the next element; replaying the winner's
+     * path to the root after taking an element costs O(log m) comparisons.
+     */
+    private static <T extends Comparable<T>> void tournamentMerge(IList<T>[] runs, int count, IList<T> output) {
+        int[] next = new int[runs.length];
+        int leaves = 1;
+        while (leaves < runs.length) {
+            leaves *= 2;
+        }
+        int[] tree = new int[2 * leaves];
+        for (int i = 0; i < leaves; i++) {
+            if (i < runs.length && !runs[i].isEmpty()) {
+                next[i] = runs[i].size() - 1;
+                tree[leaves + i] = i;
+            } else {
+                tree[leaves + i] = -1;
             }
-            return sortedList;
         }
-        else {
-            for (int i = 0; i < input.size(); i++) {
-                if (i < k) {
-                    T temp = iterator.next();
-                    if (temp == null) {
-                    throw new IllegalArgumentException();    
-                    }else {
-                    heap.insert(temp);
-                    }
-                } else {
-                    T temp = iterator.next();
-                    if (temp == null) {
-                        throw new IllegalArgumentException();    
-                        }else {
-                    if (heap.peekMin().compareTo(temp) < 0) {
-                        heap.removeMin();
-                        heap.insert(temp);
-                    }
-                    }
-                }
+        for (int node = leaves - 1; node >= 1; node--) {
+            tree[node] = playMatch(runs, next, tree[2 * node], tree[2 * node + 1]);
+        }
+
+        //the winners come out biggest first, so fill the result from the back
+        T[] merged = makeArrayOfT(count);
+        for (int i = count - 1; i >= 0; i--) {
+            int winner = tree[1];
+            merged[i] = runs[winner].get(next[winner]);
+            next[winner]--;
+            int node = leaves + winner;
+            if (next[winner] < 0) {
+                tree[node] = -1;
             }
-        
-            for (int i = 0; i < k; i++) {
-                sortedList.add(heap.removeMin());
+            for (node /= 2; node >= 1; node /= 2) {
+                tree[node] = playMatch(runs, next, tree[2 * node], tree[2 * node + 1]);
             }
-        
-            return sortedList;
         }
-        
+        for (T item : merged) {
+            output.add(item);
+        }
+    }
+
+    //returns whichever of the two runs has the bigger current element; -1 marks
+    //a run with no elements left
+    private static <T extends Comparable<T>> int playMatch(IList<T>[] runs, int[] next, int a, int b) {
+        if (a == -1) {
+            return b;
+        } else if (b == -1) {
+            return a;
+        }
+        return runs[a].get(next[a]).compareTo(runs[b].get(next[b])) >= 0 ? a : b;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> T[] makeArrayOfT(int size) {
+        return (T[]) new Comparable[size];
+    }
+
+    /**
+     * Finds the top k elements of chunks [from, to) of 'items', storing the sorted
+     * result for chunk i in results[i]. Ranges of more than one chunk are split in
+     * half and handled in parallel.
+     */
+    private static class TopKChunkTask<T extends Comparable<T>> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int k;
+        private final T[] items;
+        private final IList<T>[] results;
+        private final int from;
+        private final int to;
+
+        public TopKChunkTask(int k, T[] items, IList<T>[] results, int from, int to) {
+            this.k = k;
+            this.items = items;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > 1) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new TopKChunkTask<>(this.k, this.items, this.results, this.from, middle),
+                          new TopKChunkTask<>(this.k, this.items, this.results, middle, this.to));
+                return;
+            }
+            int start = chunkStart(this.from);
+            int end = chunkStart(this.from + 1);
+            IList<T> output = new ArrayBackedList<>(Math.min(this.k, end - start));
+            topKInto(this.k, end - start, Arrays.asList(this.items).subList(start, end).iterator(), output);
+            this.results[this.from] = output;
+        }
+
+        private int chunkStart(int chunk) {
+            return (int) ((long) this.items.length * chunk / this.results.length);
+        }
     }
-}
\ No newline at end of file
+}
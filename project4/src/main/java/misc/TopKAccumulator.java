@@ -0,0 +1,103 @@
+package misc;
+
+import java.util.Iterator;
+
+import datastructures.concrete.ArrayBackedList;
+import datastructures.concrete.ArrayHeap;
+import datastructures.interfaces.IList;
+
+/**
+ * Keeps track of the k biggest elements of a stream of elements, without
+ * needing to know how many elements there will be.
+ *
+ * Elements can be added one at a time or from any Iterable or Iterator, and
+ * only the current top k are ever stored, so the accumulator needs O(k) memory
+ * no matter how long the stream is. Adding an element takes O(log k) time.
+ */
+public class TopKAccumulator<T extends Comparable<T>> {
+    private final int k;
+
+    // Invariant: holds the biggest min(k, number added) elements added so far,
+    // with the smallest of them at the top.
+    private ArrayHeap<T> heap;
+
+    /**
+     * Creates an accumulator that keeps the k biggest elements added to it.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     */
+    public TopKAccumulator(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.k = k;
+        this.heap = new ArrayHeap<>(k + 1);
+    }
+
+    /**
+     * Offers the given item to the accumulator. It is kept if it is among the
+     * k biggest elements seen so far.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    public void add(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (this.heap.size() < this.k) {
+            this.heap.insert(item);
+        } else if (this.k > 0 && this.heap.peekMin().compareTo(item) < 0) {
+            this.heap.replaceMin(item);
+        }
+    }
+
+    /**
+     * Offers every remaining element of the given iterator to the accumulator.
+     *
+     * @throws IllegalArgumentException  if any of the elements is null
+     */
+    public void addAll(Iterator<T> iterator) {
+        while (iterator.hasNext()) {
+            this.add(iterator.next());
+        }
+    }
+
+    /**
+     * Offers every element of the given iterable to the accumulator.
+     *
+     * @throws IllegalArgumentException  if any of the elements is null
+     */
+    public void addAll(Iterable<T> items) {
+        this.addAll(items.iterator());
+    }
+
+    /**
+     * Returns the number of elements currently kept, which is at most k.
+     */
+    public int size() {
+        return this.heap.size();
+    }
+
+    /**
+     * Returns a new array-backed list of the elements currently kept, from
+     * smallest to biggest. The accumulator is left unchanged, so more elements
+     * can be added afterwards.
+     */
+    public IList<T> toSortedList() {
+        IList<T> output = new ArrayBackedList<>(this.heap.size());
+        this.drainInto(output);
+        //a sorted array is already a valid heap, so this rebuild costs O(k)
+        this.heap.insertAll(output);
+        return output;
+    }
+
+    /**
+     * Moves the elements currently kept into 'output', from smallest to biggest,
+     * leaving the accumulator empty.
+     */
+    public void drainInto(IList<T> output) {
+        while (!this.heap.isEmpty()) {
+            output.add(this.heap.removeMin());
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package misc.graphs;
 
+import datastructures.concrete.ArrayBackedList;
 import datastructures.concrete.ArrayDisjointSet;
 import datastructures.concrete.ChainedHashSet;
-import datastructures.concrete.DoubleLinkedList;
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
+import datastructures.concrete.ConcurrentDisjointSet;
+import datastructures.concrete.DoubleIntHeap;
+import datastructures.concrete.dictionaries.ObjectIntDictionary;
+import datastructures.concrete.dictionaries.RobinHoodHashDictionary;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
 import mazes.entities.Room;
-import misc.Searcher;
+import misc.RadixSort;
 import misc.exceptions.NoPathExistsException;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.function.ToDoubleBiFunction;
+
 /**
  * Represents an undirected, weighted graph, possibly containing self-loops, parallel edges,
  * and unconnected components.
@@ -60,6 +69,40 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
     private IList<V> vertices;
     private IList<E> edges;
 
+    // Every distinct vertex mapped to its id, and the vertices listed by id.
+    // Built once by the constructor and reused as the adjacency's vertex ids.
+    private ObjectIntDictionary<V> vertexIds;
+    private IList<V> vertexList;
+
+    // How many shortest path trees are cached at once.
+    private static final int TREE_CACHE_SIZE = 4;
+
+    /**
+     * Graphs with at least this many edges get their minimum spanning tree from
+     * Boruvka's algorithm when findMinimumSpanningTree is left to pick: below it,
+     * forking costs more than it saves.
+     */
+    public static final int PARALLEL_MST_THRESHOLD = 1000000;
+
+    /**
+     * Graphs with at least this many edges per vertex get their minimum spanning
+     * tree from Prim's algorithm when findMinimumSpanningTree is left to pick, as
+     * long as they are too small for Boruvka's algorithm. Sparser graphs, such as
+     * grid mazes (just under 2 edges per vertex), use Kruskal's: at 2 edges per
+     * vertex the two are even, and from 3 on Prim's is faster (see
+     * MinimumSpanningTreeBenchmark).
+     */
+    public static final int PRIM_DENSITY_THRESHOLD = 3;
+
+    // Boruvka's algorithm never splits its work into ranges smaller than this.
+    private static final int MIN_MST_CHUNK_SIZE = 4096;
+
+    // Built the first time a query needs it, then shared by every later query.
+    private Adjacency<V, E> adjacency;
+
+    // The most recently used shortest path trees, most recent first.
+    private IList<ShortestPathTree<V, E>> treeCache;
+
     
     /**
      * Constructs a new graph based on the given vertices and edges.
@@ -69,16 +112,47 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
      *                                   present in the 'vertices' list
      */
     public Graph(IList<V> vertices, IList<E> edges) {
+        this(vertices, edges, false);
+    }
+
+    /**
+     * Constructs a new graph based on the given vertices and edges, skipping the
+     * checks on the edges if 'trusted' is true.
+     *
+     * Validating the edges only takes O(E) time, but callers that build their
+     * vertices and edges from a structure that is already known to be consistent
+     * (such as a Maze) can skip it. If the input is trusted but is not actually
+     * valid, later queries on the graph may fail in unspecified ways.
+     *
+     * @throws IllegalArgumentException  if the input is not trusted and any of the
+     *                                   edges have a negative weight, or connect to
+     *                                   a vertex not present in the 'vertices' list
+     */
+    public Graph(IList<V> vertices, IList<E> edges, boolean trusted) {
         this.vertices = vertices;
         this.edges =  edges;
+        this.treeCache = new ArrayBackedList<>(TREE_CACHE_SIZE);
 
-        for (E edge : this.edges) {
-            if (edge.getWeight() < 0) {
-                throw new IllegalArgumentException();
+        //index the vertices once so every membership check below is a hash lookup
+        this.vertexIds = new ObjectIntDictionary<>(vertices.size());
+        this.vertexList = new ArrayBackedList<>(vertices.size());
+        for (V vertex : vertices) {
+            if (!this.vertexIds.containsKey(vertex)) {
+                this.vertexIds.put(vertex, this.vertexList.size());
+                this.vertexList.add(vertex);
             }
-            
-            if (!vertices.contains(edge.getVertex1()) || !vertices.contains(edge.getVertex2())) {
-                throw new IllegalArgumentException();
+        }
+
+        if (!trusted) {
+            for (E edge : this.edges) {
+                if (edge.getWeight() < 0) {
+                    throw new IllegalArgumentException();
+                }
+                
+                if (!this.vertexIds.containsKey(edge.getVertex1())
+                        || !this.vertexIds.containsKey(edge.getVertex2())) {
+                    throw new IllegalArgumentException();
+                }
             }
         }
     }
@@ -93,10 +167,20 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
         this(setToList(vertices), setToList(edges));
     }
 
+    /**
+     * Constructs a new graph from sets of vertices and edges, skipping the checks
+     * on the edges if 'trusted' is true.
+     *
+     * @see #Graph(IList, IList, boolean)
+     */
+    public Graph(ISet<V> vertices, ISet<E> edges, boolean trusted) {
+        this(setToList(vertices), setToList(edges), trusted);
+    }
+
     // You shouldn't need to call this helper method -- it only needs to be used
-    // in the constructor above.
+    // in the constructors above.
     private static <T> IList<T> setToList(ISet<T> set) {
-        IList<T> output = new DoubleLinkedList<>();
+        ArrayBackedList<T> output = new ArrayBackedList<>(set.size());
         for (T item : set) {
             output.add(item);
         }
@@ -126,35 +210,227 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
      * Precondition: the graph does not contain any unconnected components.
      */
     public ISet<E> findMinimumSpanningTree() {
-        int counter = 0;
-        ISet<E> minEdges = new ChainedHashSet<>();
-        ArrayDisjointSet<V> forest = new ArrayDisjointSet<>();
-        IList<E> sortedEdges = Searcher.topKSort(edges.size(), edges);
+        return this.findMinimumSpanningTree(MstAlgorithm.AUTO);
+    }
+
+    /**
+     * Returns the set of all edges that make up the minimum spanning tree of
+     * this graph, found with the given algorithm. Boruvka's algorithm runs on the
+     * common ForkJoinPool.
+     *
+     * Precondition: the graph does not contain any unconnected components.
+     *
+     * @see #findMinimumSpanningTree(MstAlgorithm, ForkJoinPool)
+     */
+    public ISet<E> findMinimumSpanningTree(MstAlgorithm algorithm) {
+        return this.findMinimumSpanningTree(algorithm, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the set of all edges that make up the minimum spanning tree of
+     * this graph, found with the given algorithm; Boruvka's algorithm does its
+     * work on the given pool.
+     *
+     * Kruskal's and Boruvka's algorithms break ties between edges of equal weight
+     * by the order the edges were given in, so they always return the same tree.
+     * Prim's algorithm may pick a different one of several equally light trees,
+     * but it too always returns the same tree for the same graph.
+     *
+     * Precondition: the graph does not contain any unconnected components.
+     */
+    public ISet<E> findMinimumSpanningTree(MstAlgorithm algorithm, ForkJoinPool pool) {
+        Adjacency<V, E> graph = this.getAdjacency();
+        if (algorithm == MstAlgorithm.AUTO) {
+            algorithm = chooseMstAlgorithm(graph.numVertices(), graph.numEdges(), pool.getParallelism());
+        }
+        if (algorithm == MstAlgorithm.BORUVKA) {
+            return boruvka(graph, pool);
+        } else if (algorithm == MstAlgorithm.PRIM) {
+            return prim(graph);
+        }
+        return kruskal(graph);
+    }
+
+    //picks the algorithm MstAlgorithm.AUTO stands for; see the MstAlgorithm docs
+    private static MstAlgorithm chooseMstAlgorithm(int numVertices, int numEdges, int parallelism) {
+        if (numEdges >= PARALLEL_MST_THRESHOLD && parallelism > 1) {
+            return MstAlgorithm.BORUVKA;
+        } else if (numEdges >= (long) PRIM_DENSITY_THRESHOLD * numVertices) {
+            return MstAlgorithm.PRIM;
+        }
+        return MstAlgorithm.KRUSKAL;
+    }
+
+    //an empty set with room for every edge of a spanning tree; edges such as maze
+    //walls often have clustered hash codes, so this uses a dictionary that mixes them
+    private static <V, E extends Edge<V>> ISet<E> newTreeEdgeSet(Adjacency<V, E> graph) {
+        return new ChainedHashSet<>(new RobinHoodHashDictionary<>(graph.numVertices()));
+    }
+
+    private static <V, E extends Edge<V>> ISet<E> kruskal(Adjacency<V, E> graph) {
+        ISet<E> minEdges = newTreeEdgeSet(graph);
         
-        if (edges.size() == 1) {
-            minEdges.add(sortedEdges.get(0));
+        if (graph.numEdges() == 1) {
+            minEdges.add(graph.edges.get(0));
             return minEdges;
         }
         
-        for (int i = 0; i < vertices.size(); i++) {
-            forest.makeSet(vertices.get(i));
+        //make the forest's ids line up with the adjacency's vertex ids, so the
+        //loop below never has to look a vertex up
+        ArrayDisjointSet<V> forest = new ArrayDisjointSet<>();
+        for (V vertex : graph.vertices) {
+            forest.makeSet(vertex);
         }
         
-        while (minEdges.size() < vertices.size() - 1) {
-            E edge = sortedEdges.get(counter);
+        //edge weights are plain doubles, so order the edges with a linear-time
+        //radix sort on the weights instead of comparing edges; the sort is
+        //stable, so equal weights stay in edge id order
+        int[] sortedEdges = RadixSort.sortedOrder(graph.edgeWeights);
+        int counter = 0;
+        
+        while (minEdges.size() < graph.numVertices() - 1 && counter < sortedEdges.length) {
+            int edgeId = sortedEdges[counter];
             counter++;
-            V v1 = edge.getVertex1();
-            V v2 = edge.getVertex2();
+            int root1 = forest.find(graph.edgeVertex1[edgeId]);
+            int root2 = forest.find(graph.edgeVertex2[edgeId]);
 
-            if (forest.findSet(v1) != forest.findSet(v2)) {
-                forest.union(v1, v2);
-                minEdges.add(edge);
+            if (root1 != root2) {
+                forest.unionIds(root1, root2);
+                minEdges.add(graph.edges.get(edgeId));
+            }
+        }
+        
+        return minEdges;
+    }
+
+    /**
+     * Finds the minimum spanning tree with Prim's algorithm.
+     *
+     * The tree grows from one vertex at a time: an indexed heap holds every vertex
+     * next to the tree, keyed by the lightest edge connecting it, and decreaseKey
+     * updates that key whenever a newly added vertex offers a lighter edge. Every
+     * edge is looked at once or twice, and only V vertices ever go through the
+     * heap, so unlike Kruskal's algorithm this never orders all E edges.
+     *
+     * Unconnected components are each grown from their lowest vertex id, so the
+     * result is a spanning forest, just like with the other algorithms.
+     */
+    private static <V, E extends Edge<V>> ISet<E> prim(Adjacency<V, E> graph) {
+        int numVertices = graph.numVertices();
+        ISet<E> minEdges = newTreeEdgeSet(graph);
+        //the lightest known edge from the tree to every vertex, or -1 if there is none
+        int[] bestEdge = new int[numVertices];
+        Arrays.fill(bestEdge, -1);
+        boolean[] inTree = new boolean[numVertices];
+        DoubleIntHeap fringe = new DoubleIntHeap(numVertices, numVertices);
+        
+        for (int root = 0; root < numVertices; root++) {
+            if (inTree[root]) {
+                continue;
+            }
+            fringe.insert(0.0, root);
+            while (!fringe.isEmpty()) {
+                int current = fringe.removeMin();
+                inTree[current] = true;
+                if (bestEdge[current] != -1) {
+                    minEdges.add(graph.edges.get(bestEdge[current]));
+                }
+                
+                for (int i = graph.offsets[current]; i < graph.offsets[current + 1]; i++) {
+                    int otherId = graph.neighbors[i];
+                    if (inTree[otherId]) {
+                        continue;
+                    }
+                    int edgeId = graph.neighborEdges[i];
+                    double weight = graph.edgeWeights[edgeId];
+                    if (bestEdge[otherId] == -1) {
+                        bestEdge[otherId] = edgeId;
+                        fringe.insert(weight, otherId);
+                    } else if (weight < graph.edgeWeights[bestEdge[otherId]]) {
+                        bestEdge[otherId] = edgeId;
+                        fringe.decreaseKey(otherId, weight);
+                    }
+                }
             }
         }
+        return minEdges;
+    }
+
+    /**
+     * Finds the minimum spanning tree with Boruvka's algorithm.
+     *
+     * Every round, each component picks its cheapest outgoing edge, and all of
+     * those edges are added to the tree at once, at least halving the number of
+     * components, until a round finds no outgoing edges left. Both steps of a
+     * round run in parallel: the cheapest edges are kept in an atomic array per
+     * component root, and components are merged in a ConcurrentDisjointSet.
+     *
+     * Edges are ordered by weight and then by id. With such a strict order, the
+     * cheapest edges chosen in a round can never form a cycle, so every chosen edge
+     * belongs to the (unique) minimum spanning tree under that order.
+     */
+    private static <V, E extends Edge<V>> ISet<E> boruvka(Adjacency<V, E> graph, ForkJoinPool pool) {
+        int numVertices = graph.numVertices();
+        int numEdges = graph.numEdges();
+        ConcurrentDisjointSet forest = new ConcurrentDisjointSet(numVertices);
+        //the cheapest outgoing edge found so far for every component root, or -1
+        AtomicIntegerArray cheapest = new AtomicIntegerArray(numVertices);
+        for (int v = 0; v < numVertices; v++) {
+            cheapest.set(v, -1);
+        }
+        boolean[] inTree = new boolean[numEdges];
+        boolean[] merged = new boolean[1];
         
+        do {
+            merged[0] = false;
+            pool.invoke(new RangeTask(0, numEdges, edgeId -> {
+                int root1 = forest.find(graph.edgeVertex1[edgeId]);
+                int root2 = forest.find(graph.edgeVertex2[edgeId]);
+                if (root1 != root2) {
+                    offerCheapest(cheapest, root1, edgeId, graph.edgeWeights);
+                    offerCheapest(cheapest, root2, edgeId, graph.edgeWeights);
+                }
+            }));
+            //both components on either side of an edge may have picked it, but
+            //only one of the unions succeeds
+            pool.invoke(new RangeTask(0, numVertices, root -> {
+                int edgeId = cheapest.get(root);
+                if (edgeId != -1) {
+                    cheapest.set(root, -1);
+                    if (forest.union(graph.edgeVertex1[edgeId], graph.edgeVertex2[edgeId])) {
+                        inTree[edgeId] = true;
+                        merged[0] = true;
+                    }
+                }
+            }));
+        } while (merged[0]);
+        
+        ISet<E> minEdges = newTreeEdgeSet(graph);
+        for (int edgeId = 0; edgeId < numEdges; edgeId++) {
+            if (inTree[edgeId]) {
+                minEdges.add(graph.edges.get(edgeId));
+            }
+        }
         return minEdges;
     }
 
+    //makes edgeId the cheapest edge of 'root' unless it already has a cheaper one
+    private static void offerCheapest(AtomicIntegerArray cheapest, int root, int edgeId, double[] weights) {
+        int current = cheapest.get(root);
+        while (current == -1 || isLighter(edgeId, current, weights)) {
+            if (cheapest.compareAndSet(root, current, edgeId)) {
+                return;
+            }
+            current = cheapest.get(root);
+        }
+    }
+
+    //orders edges by weight, breaking ties by id
+    private static boolean isLighter(int edgeId, int otherId, double[] weights) {
+        int compare = Double.compare(weights[edgeId], weights[otherId]);
+        return compare < 0 || (compare == 0 && edgeId < otherId);
+    }
+
     /**
      * Returns the edges that make up the shortest path from the start
      * to the end.
@@ -168,92 +444,497 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
      * @throws NoPathExistsException  if there does not exist a path from the start to the end
      */
     public IList<E> findShortestPathBetween(V start, V end) {
+        return this.search(start, end, null);
+    }
+
+    /**
+     * Returns the edges that make up the shortest path from the start to the
+     * end, like findShortestPathBetween(start, end), but uses A* search guided
+     * by the given heuristic.
+     *
+     * heuristic.applyAsDouble(v, end) should estimate the length of the shortest
+     * path from v to the end, and must never overestimate it; for example, the
+     * straight-line distance between the two when edge weights are distances. The
+     * better the estimate, the fewer vertices the search has to look at. A
+     * heuristic that always returns 0 makes this the same as Dijkstra's algorithm.
+     *
+     * @throws NoPathExistsException  if there does not exist a path from the start to the end
+     */
+    public IList<E> findShortestPathBetween(V start, V end, ToDoubleBiFunction<V, V> heuristic) {
+        if (heuristic == null) {
+            throw new IllegalArgumentException();
+        }
+        return this.search(start, end, heuristic);
+    }
+
+    //finds the path from start to end, using a cached shortest path tree from
+    //the start if there is one, and otherwise running A* (or Dijkstra's
+    //algorithm if the heuristic is null)
+    private IList<E> search(V start, V end, ToDoubleBiFunction<V, V> heuristic) {
+        Adjacency<V, E> graph = this.getAdjacency();
+        int startId = graph.vertexIds.get(start);
+        int endId = graph.vertexIds.get(end);
         
-        //Initialize vertex distance values
-        IDictionary<V, Double> vertexDistance = new ChainedHashDictionary<V, Double>();
-        for (V vertex : vertices) {
-            vertexDistance.put(vertex, Double.POSITIVE_INFINITY);
-        }
-        vertexDistance.put(start, 0.0);
-        //store the path from the start to every vertex, to be returned one the ending vertex is found
-        IDictionary<V, IList<E>> vertexPath = new ChainedHashDictionary<V, IList<E>>();
-        vertexPath.put(start, new DoubleLinkedList<E>());
-        //keep track of which nodes have been visited and which can be explored
-        ISet<V> explored = new ChainedHashSet<V>();
-        ISet<V> available = new ChainedHashSet<V>();
-        V current = start;
-        //create a dictionary to find the edges of any vertex
-        IDictionary<V, ISet<E>> vertexEdges = new ChainedHashDictionary<V, ISet<E>>();
-        for (E edge : edges) {
-           V tempVertex = edge.getVertex1();
-                   if (vertexEdges.containsKey(tempVertex)) {
-                       ISet<E> tempSet = vertexEdges.get(tempVertex);
-                       tempSet.add(edge);
-                       vertexEdges.put(tempVertex, tempSet);
-                   }else {
-                       ISet<E> tempSet = new ChainedHashSet<E>();
-                       tempSet.add(edge);
-                       vertexEdges.put(tempVertex, tempSet); 
-                   }
-          tempVertex = edge.getVertex2();
-                   if (vertexEdges.containsKey(tempVertex)) {
-                       ISet<E> tempSet = vertexEdges.get(tempVertex);
-                       tempSet.add(edge);
-                       vertexEdges.put(tempVertex, tempSet);
-                   }else {
-                       ISet<E> tempSet = new ChainedHashSet<E>();
-                       tempSet.add(edge);
-                       vertexEdges.put(tempVertex, tempSet); 
-                   }
+        ShortestPathTree<V, E> tree = this.cachedTree(startId);
+        if (tree != null) {
+            return tree.pathTo(end);
         }
         
+        double[] vertexDistance = newDistances(graph.numVertices(), startId);
+        int[] parentEdge = newParentEdges(graph.numVertices());
+        if (!runSearch(graph, startId, endId, end, heuristic, vertexDistance, parentEdge)) {
+            //could not find end return null or throw exception
+            throw new NoPathExistsException();
+        }
+        return graph.buildPath(parentEdge, startId, endId);
+    }
+
+    /**
+     * Returns the shortest paths from the source to every vertex in the graph.
+     *
+     * The most recently computed trees are cached, and while a tree for some
+     * source is cached, findShortestPathBetween calls from that source just read
+     * their answer off the tree in O(path length) time.
+     */
+    public ShortestPathTree<V, E> shortestPathTree(V source) {
+        Adjacency<V, E> graph = this.getAdjacency();
+        int sourceId = graph.vertexIds.get(source);
+        ShortestPathTree<V, E> tree = this.cachedTree(sourceId);
+        if (tree == null) {
+            double[] distances = newDistances(graph.numVertices(), sourceId);
+            int[] parentEdges = newParentEdges(graph.numVertices());
+            runSearch(graph, sourceId, -1, null, null, distances, parentEdges);
+            tree = new ShortestPathTree<>(graph, sourceId, distances, parentEdges);
+            if (this.treeCache.size() == TREE_CACHE_SIZE) {
+                this.treeCache.remove();
+            }
+            this.treeCache.insert(0, tree);
+        }
+        return tree;
+    }
+
+    //returns the cached tree for the given source, or null if there is none;
+    //a cache hit moves the tree to the front, so the least recently used is evicted first
+    private ShortestPathTree<V, E> cachedTree(int sourceId) {
+        for (int i = 0; i < this.treeCache.size(); i++) {
+            ShortestPathTree<V, E> tree = this.treeCache.get(i);
+            if (tree.sourceId == sourceId) {
+                if (i > 0) {
+                    this.treeCache.delete(i);
+                    this.treeCache.insert(0, tree);
+                }
+                return tree;
+            }
+        }
+        return null;
+    }
+
+    //vertices without a recorded distance are infinitely far away
+    private static double[] newDistances(int numVertices, int sourceId) {
+        double[] distances = new double[numVertices];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        distances[sourceId] = 0.0;
+        return distances;
+    }
+
+    //the last edge on the best known path to every vertex, or -1 if there is none yet
+    private static int[] newParentEdges(int numVertices) {
+        int[] parentEdges = new int[numVertices];
+        Arrays.fill(parentEdges, -1);
+        return parentEdges;
+    }
+
+    /**
+     * Runs A* (or Dijkstra's algorithm, if the heuristic is null) from startId,
+     * filling in the distance and parent edge of every vertex it reaches. Returns
+     * 'true' as soon as endId is settled, or 'false' once every reachable vertex
+     * has been; pass -1 as endId to always search the whole graph.
+     */
+    private static <V, E extends Edge<V>> boolean runSearch(Adjacency<V, E> graph, int startId, int endId,
+                                                             V end, ToDoubleBiFunction<V, V> heuristic,
+                                                             double[] vertexDistance, int[] parentEdge) {
+        int numVertices = graph.numVertices();
+        //the heuristic's estimate for every vertex, computed the first time the
+        //vertex is reached (NaN until then)
+        double[] estimates = null;
+        if (heuristic != null) {
+            estimates = new double[numVertices];
+            Arrays.fill(estimates, Double.NaN);
+        }
+        //keep track of which nodes can be explored next, keyed by their current
+        //distance plus their estimate
+        DoubleIntHeap available = new DoubleIntHeap(numVertices, numVertices);
+        available.insert(0.0, startId);
         
-        while (current != null) {
-            if (current.equals(end)) {
-                return vertexPath.get(current);
+        while (!available.isEmpty()) {
+            int currentId = available.removeMin();
+            if (currentId == endId) {
+                return true;
             }
             
-            explored.add(current);
-            //explore currents edges
-            for (E edge : vertexEdges.get(current)) {
-                V otherEdge = edge.getOtherVertex(current);
-                //check if values are locked
-                if (!explored.contains(otherEdge)) {
-                //update available vertices for next run
-                available.add(otherEdge);
-                //update distance
-                Double tempDistance = vertexDistance.get(current) + edge.getWeight();
-                if (vertexDistance.get(otherEdge) > tempDistance) {
-                vertexDistance.put(otherEdge, tempDistance);
-                //update the new explored paths
-                IList<E> newPath = new DoubleLinkedList<E>();
-                for (E pathEdge : vertexPath.get(current)) {
-                    newPath.add(pathEdge);
+            //explore currents edges; with non-negative weights, a vertex that has
+            //already been removed from the queue can only be improved if the
+            //heuristic is inconsistent, in which case it is simply queued again
+            for (int i = graph.offsets[currentId]; i < graph.offsets[currentId + 1]; i++) {
+                int otherId = graph.neighbors[i];
+                int edgeId = graph.neighborEdges[i];
+                double tempDistance = vertexDistance[currentId] + graph.edgeWeights[edgeId];
+                if (vertexDistance[otherId] > tempDistance) {
+                    vertexDistance[otherId] = tempDistance;
+                    parentEdge[otherId] = edgeId;
+                    double priority = tempDistance;
+                    if (estimates != null) {
+                        if (Double.isNaN(estimates[otherId])) {
+                            estimates[otherId] = heuristic.applyAsDouble(graph.vertices.get(otherId), end);
+                        }
+                        priority += estimates[otherId];
+                    }
+                    //update available vertices for next run
+                    if (available.contains(otherId)) {
+                        available.decreaseKey(otherId, priority);
+                    } else {
+                        available.insert(priority, otherId);
+                    }
                 }
-                newPath.add(edge);
-                vertexPath.put(otherEdge, newPath);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the edges that make up the shortest path from the start to the
+     * end, exactly like findShortestPathBetween(start, end), but found with a
+     * bidirectional Dijkstra search.
+     *
+     * One search grows outward from the start and another from the end, always
+     * advancing whichever frontier is closer. Every edge between the two searched
+     * regions is a candidate connection, and the search stops as soon as the
+     * closest unsettled vertices of both sides together are at least as far as
+     * the best connection found. For point-to-point queries across a large graph,
+     * that settles roughly two small balls of vertices instead of one big one.
+     *
+     * @throws NoPathExistsException  if there does not exist a path from the start to the end
+     */
+    public IList<E> findShortestPathBidirectional(V start, V end) {
+        Adjacency<V, E> graph = this.getAdjacency();
+        int startId = graph.vertexIds.get(start);
+        int endId = graph.vertexIds.get(end);
+        if (startId == endId) {
+            return new ArrayBackedList<>(0);
+        }
+        
+        SearchFrontier forward = new SearchFrontier(graph.numVertices(), startId);
+        SearchFrontier backward = new SearchFrontier(graph.numVertices(), endId);
+        //the best connection found so far: a path through edge 'meetEdge', whose
+        //endpoint 'meetForward' was reached from the start and 'meetBackward' from the end
+        double bestDistance = Double.POSITIVE_INFINITY;
+        int meetEdge = -1;
+        int meetForward = -1;
+        int meetBackward = -1;
+        
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+            if (forward.queue.peekMinKey() + backward.queue.peekMinKey() >= bestDistance) {
+                break;
+            }
+            boolean goForward = forward.queue.peekMinKey() <= backward.queue.peekMinKey();
+            SearchFrontier side = goForward ? forward : backward;
+            SearchFrontier other = goForward ? backward : forward;
+            
+            int currentId = side.queue.removeMin();
+            for (int i = graph.offsets[currentId]; i < graph.offsets[currentId + 1]; i++) {
+                int otherId = graph.neighbors[i];
+                int edgeId = graph.neighborEdges[i];
+                double tempDistance = side.distances[currentId] + graph.edgeWeights[edgeId];
+                side.relax(otherId, edgeId, tempDistance);
+                
+                double throughEdge = tempDistance + other.distances[otherId];
+                if (throughEdge < bestDistance) {
+                    bestDistance = throughEdge;
+                    meetEdge = edgeId;
+                    meetForward = goForward ? currentId : otherId;
+                    meetBackward = goForward ? otherId : currentId;
                 }
+            }
+        }
+        if (meetEdge == -1) {
+            throw new NoPathExistsException();
+        }
+        
+        //stitch start -> meetForward, the meeting edge, and meetBackward -> end
+        IList<E> path = graph.buildPath(forward.parentEdges, startId, meetForward);
+        path.add(graph.edges.get(meetEdge));
+        IList<E> tail = graph.buildPath(backward.parentEdges, endId, meetBackward);
+        for (int i = tail.size() - 1; i >= 0; i--) {
+            path.add(tail.get(i));
+        }
+        return path;
+    }
+
+    //returns the adjacency structure of this graph, building it on first use
+    private Adjacency<V, E> getAdjacency() {
+        if (this.adjacency == null) {
+            this.adjacency = new Adjacency<>(this.vertexIds, this.vertexList, this.edges);
+        }
+        return this.adjacency;
+    }
+
+    /**
+     * The algorithms findMinimumSpanningTree can use.
+     */
+    public enum MstAlgorithm {
+        /**
+         * Kruskal's algorithm on a single thread: sorts the edges once, then adds
+         * them cheapest first, skipping any that would close a cycle.
+         */
+        KRUSKAL,
+
+        /**
+         * Prim's algorithm on a single thread: grows the tree one vertex at a time
+         * from the graph's adjacency lists, using an indexed heap with decreaseKey.
+         * Never sorts the edges, which pays off once the graph is dense.
+         */
+        PRIM,
+
+        /**
+         * Boruvka's algorithm, which finds the cheapest edge out of every component
+         * in parallel and merges them all at once, in O(log V) rounds.
+         */
+        BORUVKA,
+
+        /**
+         * Boruvka's algorithm for graphs with at least PARALLEL_MST_THRESHOLD edges
+         * when there is more than one thread to run it on; otherwise Prim's algorithm
+         * for graphs with at least PRIM_DENSITY_THRESHOLD edges per vertex, and
+         * Kruskal's for sparser ones.
+         */
+        AUTO
+    }
+
+    /**
+     * Runs 'body' on every index in [from, to), splitting the range in half and
+     * handling both halves in parallel until it is no bigger than MIN_MST_CHUNK_SIZE.
+     */
+    private static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        public RangeTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > MIN_MST_CHUNK_SIZE) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new RangeTask(this.from, middle, this.body),
+                          new RangeTask(middle, this.to, this.body));
+                return;
+            }
+            for (int i = this.from; i < this.to; i++) {
+                this.body.accept(i);
+            }
+        }
+    }
+
+    /**
+     * The shortest paths from one source vertex to every vertex of a graph, as
+     * returned by Graph.shortestPathTree.
+     *
+     * Internally this is just one distance and one parent edge per vertex, so it
+     * takes O(V) space no matter how long the paths are.
+     */
+    public static class ShortestPathTree<V, E extends Edge<V>> {
+        private final Adjacency<V, E> graph;
+        private final int sourceId;
+        private final double[] distances;
+        private final int[] parentEdges;
+
+        private ShortestPathTree(Adjacency<V, E> graph, int sourceId, double[] distances, int[] parentEdges) {
+            this.graph = graph;
+            this.sourceId = sourceId;
+            this.distances = distances;
+            this.parentEdges = parentEdges;
+        }
+
+        /**
+         * Returns the vertex all paths in this tree start from.
+         */
+        public V getSource() {
+            return this.graph.vertices.get(this.sourceId);
+        }
+
+        /**
+         * Returns the length of the shortest path from the source to the given
+         * vertex, or Double.POSITIVE_INFINITY if there is no such path.
+         */
+        public double distanceTo(V vertex) {
+            return this.distances[this.graph.vertexIds.get(vertex)];
+        }
+
+        /**
+         * Returns 'true' if there is a path from the source to the given vertex.
+         */
+        public boolean hasPathTo(V vertex) {
+            return this.distanceTo(vertex) != Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Returns the edges that make up the shortest path from the source to the
+         * given vertex, in O(path length) time. The path is empty if the vertex
+         * is the source.
+         *
+         * @throws NoPathExistsException  if there does not exist a path from the source to the vertex
+         */
+        public IList<E> pathTo(V vertex) {
+            int vertexId = this.graph.vertexIds.get(vertex);
+            if (this.distances[vertexId] == Double.POSITIVE_INFINITY) {
+                throw new NoPathExistsException();
+            }
+            return this.graph.buildPath(this.parentEdges, this.sourceId, vertexId);
+        }
+    }
+
+    /**
+     * The state of one side of a bidirectional search: the best known distance
+     * and parent edge of every vertex, and the queue of vertices still to settle.
+     */
+    private static class SearchFrontier {
+        private final double[] distances;
+        private final int[] parentEdges;
+        private final DoubleIntHeap queue;
+
+        public SearchFrontier(int numVertices, int sourceId) {
+            this.distances = new double[numVertices];
+            Arrays.fill(this.distances, Double.POSITIVE_INFINITY);
+            this.distances[sourceId] = 0.0;
+            this.parentEdges = new int[numVertices];
+            Arrays.fill(this.parentEdges, -1);
+            this.queue = new DoubleIntHeap(numVertices, numVertices);
+            this.queue.insert(0.0, sourceId);
+        }
+
+        //records 'distance' as the distance to the vertex, through the given
+        //edge, if that is an improvement
+        public void relax(int vertexId, int edgeId, double distance) {
+            if (this.distances[vertexId] > distance) {
+                this.distances[vertexId] = distance;
+                this.parentEdges[vertexId] = edgeId;
+                if (this.queue.contains(vertexId)) {
+                    this.queue.decreaseKey(vertexId, distance);
+                } else {
+                    this.queue.insert(distance, vertexId);
                 }
             }
-            //find next vertex, one with shortest distance and update current
-            current = findNextCurrent(available, vertexDistance);
-            //check if current is the end vertex, if so return
-            
         }
-        //could not find end return null or throw exception
-        throw new NoPathExistsException();
     }
-    
-    private V findNextCurrent(ISet<V> available, IDictionary<V, Double> vertexDistance) {
-        V newCurrent = null;
-        for (V next : available) {
-            if (newCurrent == null || vertexDistance.get(next) < vertexDistance.get(newCurrent)) {
-                newCurrent = next;
+
+    /**
+     * A read-only, array-based copy of the graph in compressed sparse row (CSR)
+     * form, so queries can walk it using ints instead of hash lookups.
+     *
+     * Every distinct vertex gets an id in [0, numVertices()), and every edge an id
+     * in [0, numEdges()), in the order they appear in the graph's lists. The
+     * neighbors of vertex v are neighbors[offsets[v]] through
+     * neighbors[offsets[v + 1] - 1], and neighborEdges holds the id of the edge
+     * leading to each of them. Every edge shows up once in each endpoint's row.
+     *
+     * Edge weights are copied when the structure is built, so edges must not
+     * change their weight while the graph is in use.
+     */
+    private static class Adjacency<V, E extends Edge<V>> {
+        private final ObjectIntDictionary<V> vertexIds;
+        private final IList<V> vertices;
+        private final IList<E> edges;
+        private final int[] edgeVertex1;
+        private final int[] edgeVertex2;
+        private final double[] edgeWeights;
+        private final int[] offsets;
+        private final int[] neighbors;
+        private final int[] neighborEdges;
+
+        //vertexIds must map every distinct vertex to its index in 'vertices'
+        public Adjacency(ObjectIntDictionary<V> vertexIds, IList<V> vertices, IList<E> edgeList) {
+            this.vertexIds = vertexIds;
+            this.vertices = vertices;
+
+            int numEdges = edgeList.size();
+            this.edges = new ArrayBackedList<>(numEdges);
+            this.edgeVertex1 = new int[numEdges];
+            this.edgeVertex2 = new int[numEdges];
+            this.edgeWeights = new double[numEdges];
+            //count every vertex's degree, shifted by one so the prefix sums
+            //below turn the counts into row offsets
+            this.offsets = new int[this.vertices.size() + 1];
+            int edgeId = 0;
+            for (E edge : edgeList) {
+                int v1 = this.vertexIds.get(edge.getVertex1());
+                int v2 = this.vertexIds.get(edge.getVertex2());
+                this.edges.add(edge);
+                this.edgeVertex1[edgeId] = v1;
+                this.edgeVertex2[edgeId] = v2;
+                this.edgeWeights[edgeId] = edge.getWeight();
+                this.offsets[v1 + 1]++;
+                this.offsets[v2 + 1]++;
+                edgeId++;
+            }
+            for (int v = 0; v < this.vertices.size(); v++) {
+                this.offsets[v + 1] += this.offsets[v];
+            }
+
+            this.neighbors = new int[2 * numEdges];
+            this.neighborEdges = new int[2 * numEdges];
+            int[] next = Arrays.copyOf(this.offsets, this.vertices.size());
+            for (int e = 0; e < numEdges; e++) {
+                int v1 = this.edgeVertex1[e];
+                int v2 = this.edgeVertex2[e];
+                this.neighbors[next[v1]] = v2;
+                this.neighborEdges[next[v1]] = e;
+                next[v1]++;
+                this.neighbors[next[v2]] = v1;
+                this.neighborEdges[next[v2]] = e;
+                next[v2]++;
             }
         }
-        if (newCurrent != null) {
-            available.remove(newCurrent);
+
+        //returns the id of the endpoint of the given edge that is not 'vertex'
+        public int otherVertex(int edgeId, int vertex) {
+            return this.edgeVertex1[edgeId] == vertex ? this.edgeVertex2[edgeId] : this.edgeVertex1[edgeId];
+        }
+
+        /**
+         * Returns the edges on the path from 'startId' to 'endId', in order, by
+         * following parentEdge back from the end: parentEdge[v] must be the id of
+         * the edge leading into v on the path, for every v on it except the start.
+         */
+        public IList<E> buildPath(int[] parentEdge, int startId, int endId) {
+            int length = 0;
+            for (int v = endId; v != startId; v = this.otherVertex(parentEdge[v], v)) {
+                length++;
+            }
+            int[] pathEdges = new int[length];
+            int v = endId;
+            for (int i = length - 1; i >= 0; i--) {
+                pathEdges[i] = parentEdge[v];
+                v = this.otherVertex(parentEdge[v], v);
+            }
+            IList<E> path = new ArrayBackedList<>(length);
+            for (int edgeId : pathEdges) {
+                path.add(this.edges.get(edgeId));
+            }
+            return path;
+        }
+
+        public int numVertices() {
+            return this.vertices.size();
+        }
+
+        public int numEdges() {
+            return this.edges.size();
         }
-        return newCurrent;
     }
 }
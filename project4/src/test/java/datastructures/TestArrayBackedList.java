@@ -0,0 +1,212 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.ArrayBackedList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+public class TestArrayBackedList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new ArrayBackedList<>();
+
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        return list;
+    }
+
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAndGetBasic() {
+        IList<String> list = this.makeBasicList();
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveFromEnd() {
+        IList<String> list = this.makeBasicList();
+        assertEquals("c", list.remove());
+        assertEquals("b", list.remove());
+        assertEquals("a", list.remove());
+        assertTrue(list.isEmpty());
+
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetInsertAndDelete() {
+        IList<String> list = this.makeBasicList();
+        list.set(1, "x");
+        this.assertListMatches(new String[] {"a", "x", "c"}, list);
+
+        list.insert(0, "front");
+        list.insert(2, "middle");
+        list.insert(list.size(), "back");
+        this.assertListMatches(new String[] {"front", "a", "middle", "x", "c", "back"}, list);
+
+        assertEquals("middle", list.delete(2));
+        assertEquals("front", list.delete(0));
+        assertEquals("back", list.delete(list.size() - 1));
+        this.assertListMatches(new String[] {"a", "x", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutOfBoundsThrowsException() {
+        IList<String> list = this.makeBasicList();
+        int[] badIndices = {-1, 3, 4};
+        for (int index : badIndices) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            list.insert(4, "d");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexOfAndContainsWithNull() {
+        IList<String> list = this.makeBasicList();
+        list.add(null);
+        assertEquals(3, list.indexOf(null));
+        assertEquals(1, list.indexOf("b"));
+        assertEquals(-1, list.indexOf("z"));
+        assertTrue(list.contains(null));
+        assertTrue(!list.contains("z"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIterator() {
+        IList<String> list = this.makeBasicList();
+        Iterator<String> iter = list.iterator();
+        assertEquals("a", iter.next());
+        assertEquals("b", iter.next());
+        assertEquals("c", iter.next());
+        assertTrue(!iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=2*SECOND)
+    public void testRandomAccessIsEfficient() {
+        ArrayBackedList<Integer> list = new ArrayBackedList<>(0);
+        list.ensureCapacity(1000000);
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < cap; i++) {
+            list.set(i, list.get(i) * 2);
+            sum += list.get(i);
+        }
+        assertEquals((long) cap * (cap - 1), sum);
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorMovesBothWays() {
+        IList<String> list = this.makeBasicList();
+        ListIterator<String> iter = list.listIterator(1);
+        assertTrue(iter.hasPrevious());
+        assertEquals(1, iter.nextIndex());
+        assertEquals("b", iter.next());
+        assertEquals("c", iter.next());
+        assertTrue(!iter.hasNext());
+        assertEquals("c", iter.previous());
+        assertEquals("b", iter.previous());
+        assertEquals("a", iter.previous());
+        assertTrue(!iter.hasPrevious());
+        assertEquals(-1, iter.previousIndex());
+        try {
+            iter.previous();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorEditsInPlace() {
+        IList<String> list = this.makeBasicList();
+        ListIterator<String> iter = list.listIterator();
+        try {
+            iter.remove();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+
+        iter.add("start");
+        assertEquals("a", iter.next());
+        iter.set("A");
+        assertEquals("b", iter.next());
+        iter.remove();
+        iter.add("x");
+        assertEquals("c", iter.next());
+        iter.add("end");
+        this.assertListMatches(new String[] {"start", "A", "x", "c", "end"}, list);
+
+        assertEquals("end", iter.previous());
+        iter.remove();
+        assertEquals("c", iter.previous());
+        iter.set("C");
+        iter.remove();
+        this.assertListMatches(new String[] {"start", "A", "x"}, list);
+        assertEquals("x", iter.previous());
+        assertEquals("x", iter.next());
+        assertTrue(!iter.hasNext());
+        assertEquals("x", list.get(2));
+        list.add("y");
+        assertEquals("y", list.remove());
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorOutOfBounds() {
+        IList<String> list = this.makeBasicList();
+        try {
+            list.listIterator(4);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(!list.listIterator(3).hasNext());
+    }
+}
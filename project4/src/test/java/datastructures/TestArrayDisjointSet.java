@@ -194,5 +194,73 @@ public class TestArrayDisjointSet extends BaseTest {
             }
         }
     }
-    
+
+    @Test(timeout=SECOND)
+    public void testMakeSetReturnsDenseIds() {
+        IDisjointSet<String> forest = new ArrayDisjointSet<>();
+        String[] items = {"a", "b", "c", "d", "e"};
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(i, forest.makeSet(items[i]));
+            assertEquals(i, forest.find(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIdApiMatchesItemApi() {
+        String[] items = {"a", "b", "c", "d", "e"};
+        IDisjointSet<String> forest = createForest(items);
+
+        forest.unionIds(0, 1);
+        check(forest, items, new int[] {1, 1, 2, 3, 4});
+        forest.unionIds(2, 1);
+        forest.union("d", "e");
+        forest.unionIds(0, 3);
+        check(forest, items, new int[] {4, 4, 4, 4, 4});
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(4, forest.find(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIdApiErrors() {
+        IDisjointSet<String> forest = createForest(new String[] {"a", "b", "c"});
+        forest.unionIds(0, 1);
+        try {
+            forest.unionIds(1, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        for (int badId : new int[] {-1, 3, 100}) {
+            try {
+                forest.find(badId);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+            try {
+                forest.unionIds(2, badId);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testLargeForestById() {
+        IDisjointSet<Integer> forest = new ArrayDisjointSet<>();
+        int numItems = 200000;
+        for (int i = 0; i < numItems; i++) {
+            forest.makeSet(i);
+        }
+        //build one long chain of unions, then check every id finds the same root
+        for (int i = 1; i < numItems; i++) {
+            forest.unionIds(i - 1, i);
+        }
+        int root = forest.find(0);
+        for (int i = 0; i < numItems; i++) {
+            assertEquals(root, forest.find(i));
+        }
+    }
 }
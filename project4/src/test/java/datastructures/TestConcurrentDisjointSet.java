@@ -0,0 +1,119 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.ConcurrentDisjointSet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestConcurrentDisjointSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicUnions() {
+        ConcurrentDisjointSet forest = new ConcurrentDisjointSet(5);
+        assertEquals(5, forest.size());
+        assertEquals(5, forest.numSets());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, forest.find(i));
+        }
+
+        assertTrue(forest.union(0, 1));
+        assertTrue(forest.union(3, 4));
+        assertFalse(forest.union(1, 0));
+        assertEquals(3, forest.numSets());
+        assertTrue(forest.sameSet(0, 1));
+        assertFalse(forest.sameSet(1, 3));
+
+        assertTrue(forest.union(1, 4));
+        assertEquals(forest.find(0), forest.find(3));
+        assertFalse(forest.sameSet(2, 0));
+        assertEquals(2, forest.numSets());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBadIds() {
+        ConcurrentDisjointSet forest = new ConcurrentDisjointSet(3);
+        for (int badId : new int[] {-1, 3}) {
+            try {
+                forest.find(badId);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+            try {
+                forest.union(0, badId);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testLongChainStaysFast() {
+        int numItems = 1000000;
+        ConcurrentDisjointSet forest = new ConcurrentDisjointSet(numItems);
+        for (int i = 1; i < numItems; i++) {
+            assertTrue(forest.union(i - 1, i));
+        }
+        assertEquals(1, forest.numSets());
+        int root = forest.find(0);
+        for (int i = 0; i < numItems; i++) {
+            assertEquals(root, forest.find(i));
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testConcurrentUnionsMatchSequential() throws InterruptedException {
+        int numItems = 200000;
+        int numThreads = 8;
+        int unionsPerThread = 50000;
+        int[][] pairs = new int[numThreads * unionsPerThread][2];
+        Random rand = new Random(99);
+        for (int[] pair : pairs) {
+            pair[0] = rand.nextInt(numItems);
+            pair[1] = rand.nextInt(numItems);
+        }
+
+        ConcurrentDisjointSet expected = new ConcurrentDisjointSet(numItems);
+        int expectedMerges = 0;
+        for (int[] pair : pairs) {
+            if (expected.union(pair[0], pair[1])) {
+                expectedMerges++;
+            }
+        }
+
+        ConcurrentDisjointSet forest = new ConcurrentDisjointSet(numItems);
+        AtomicInteger merges = new AtomicInteger();
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            int first = t * unionsPerThread;
+            threads[t] = new Thread(() -> {
+                for (int i = first; i < first + unionsPerThread; i++) {
+                    if (forest.union(pairs[i][0], pairs[i][1])) {
+                        merges.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //the final partition does not depend on the order of the unions
+        assertEquals(expectedMerges, merges.get());
+        assertEquals(expected.numSets(), forest.numSets());
+        for (int i = 0; i < numItems; i++) {
+            int other = pairs[i][0];
+            assertEquals(expected.sameSet(i, other), forest.sameSet(i, other));
+        }
+        for (int[] pair : pairs) {
+            assertTrue(forest.sameSet(pair[0], pair[1]));
+        }
+    }
+}
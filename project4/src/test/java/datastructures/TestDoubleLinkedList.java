@@ -11,6 +11,7 @@ import misc.exceptions.EmptyContainerException;
 import org.junit.Test;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
 
@@ -567,4 +568,142 @@ public class TestDoubleLinkedList extends BaseTest {
             count += 2;
         }
     }
+
+    @Test(timeout=2*SECOND)
+    public void testSequentialGetAndSetIsEfficient() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < cap; i++) {
+            list.set(i, list.get(i) + 1);
+        }
+        for (int i = cap - 1; i >= 0; i -= 2) {
+            assertEquals(i + 1, list.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertNearFront() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.insert(1, "x");
+        this.assertListMatches(new String[] {"a", "x", "b", "c", "d"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testPositionalOperationsMatchReference() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        java.util.List<Integer> reference = new java.util.ArrayList<>();
+        Random rand = new Random(12);
+        for (int i = 0; i < 5000; i++) {
+            int op = rand.nextInt(5);
+            if (op == 0 || reference.isEmpty()) {
+                int index = rand.nextInt(reference.size() + 1);
+                list.insert(index, i);
+                reference.add(index, i);
+            } else if (op == 1) {
+                int index = rand.nextInt(reference.size());
+                assertEquals(reference.remove(index), list.delete(index));
+            } else if (op == 2) {
+                int index = rand.nextInt(reference.size());
+                list.set(index, -i);
+                reference.set(index, -i);
+            } else if (op == 3) {
+                assertEquals(reference.remove(reference.size() - 1), list.remove());
+            } else {
+                int index = rand.nextInt(reference.size());
+                assertEquals(reference.get(index), list.get(index));
+            }
+        }
+        this.assertListMatches(reference.toArray(new Integer[0]), list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorMovesBothWays() {
+        IList<String> list = this.makeBasicList();
+        ListIterator<String> iter = list.listIterator(1);
+        assertTrue(iter.hasPrevious());
+        assertEquals(1, iter.nextIndex());
+        assertEquals("b", iter.next());
+        assertEquals("c", iter.next());
+        assertTrue(!iter.hasNext());
+        assertEquals("c", iter.previous());
+        assertEquals("b", iter.previous());
+        assertEquals("a", iter.previous());
+        assertTrue(!iter.hasPrevious());
+        assertEquals(-1, iter.previousIndex());
+        try {
+            iter.previous();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorEditsInPlace() {
+        IList<String> list = this.makeBasicList();
+        ListIterator<String> iter = list.listIterator();
+        try {
+            iter.remove();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+
+        iter.add("start");
+        assertEquals("a", iter.next());
+        iter.set("A");
+        assertEquals("b", iter.next());
+        iter.remove();
+        iter.add("x");
+        assertEquals("c", iter.next());
+        iter.add("end");
+        this.assertListMatches(new String[] {"start", "A", "x", "c", "end"}, list);
+
+        assertEquals("end", iter.previous());
+        iter.remove();
+        assertEquals("c", iter.previous());
+        iter.set("C");
+        iter.remove();
+        this.assertListMatches(new String[] {"start", "A", "x"}, list);
+        assertEquals("x", iter.previous());
+        assertEquals("x", iter.next());
+        assertTrue(!iter.hasNext());
+        assertEquals("x", list.get(2));
+        list.add("y");
+        assertEquals("y", list.remove());
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorOutOfBounds() {
+        IList<String> list = this.makeBasicList();
+        try {
+            list.listIterator(4);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(!list.listIterator(3).hasNext());
+    }
+
+    @Test(timeout=2*SECOND)
+    public void testListIteratorFilteringIsEfficient() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        Iterator<Integer> iter = list.iterator();
+        while (iter.hasNext()) {
+            if (iter.next() % 2 == 0) {
+                iter.remove();
+            }
+        }
+        assertEquals(cap / 2, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(cap - 1, list.get(list.size() - 1));
+    }
 }
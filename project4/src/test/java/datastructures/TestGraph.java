@@ -12,6 +12,10 @@ import org.junit.Test;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToDoubleBiFunction;
+
 
 public class TestGraph extends BaseTest {
     public static class SimpleEdge<V> implements Edge<V>, Comparable<SimpleEdge<V>> {
@@ -279,6 +283,30 @@ public class TestGraph extends BaseTest {
     }
     
     
+    /**
+     * Builds a 'size' by 'size' grid graph: every vertex is connected to the
+     * vertex to its right and the vertex below it.
+     */
+    public Graph<Integer, SimpleEdge<Integer>> buildGridGraph(int size) {
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        Random rand = new Random(42);
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int vertex = row * size + col;
+                vertices.add(vertex);
+                if (col + 1 < size) {
+                    edges.add(edge(vertex, vertex + 1, rand.nextDouble()));
+                }
+                if (row + 1 < size) {
+                    edges.add(edge(vertex, vertex + size, rand.nextDouble()));
+                }
+            }
+        }
+        return new Graph<>(vertices, edges);
+    }
+    
+    
     @Test(timeout=SECOND)
     public void testBuildGraph() {
         Graph<String, SimpleEdge<String>> graph1 = this.buildSimpleGraph();
@@ -350,6 +378,14 @@ public class TestGraph extends BaseTest {
     }
 
 
+    @Test(timeout=10*SECOND)
+    public void testFindMstOnLargeGrid() {
+        int size = 60;
+        Graph<Integer, SimpleEdge<Integer>> graph = this.buildGridGraph(size);
+        ISet<SimpleEdge<Integer>> mst = graph.findMinimumSpanningTree();
+        assertEquals(size * size - 1, mst.size());
+    }
+
     @Test(timeout=SECOND)
     public void testFindingMst() {
         Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
@@ -449,4 +485,363 @@ public class TestGraph extends BaseTest {
             // All ok -- expected result
         }
     }
+
+    @Test(timeout=2*SECOND)
+    public void testRepeatedQueriesOnSameGraph() {
+        int size = 60;
+        Graph<Integer, SimpleEdge<Integer>> graph = this.buildGridGraph(size);
+        double expectedCost = -1;
+        for (int i = 0; i < 20; i++) {
+            IList<SimpleEdge<Integer>> path = graph.findShortestPathBetween(0, size * size - 1);
+            double cost = 0;
+            for (SimpleEdge<Integer> edge : path) {
+                cost += edge.getWeight();
+            }
+            if (i == 0) {
+                expectedCost = cost;
+            }
+            assertEquals(expectedCost, cost, 1e-9);
+        }
+        assertEquals(size * size - 1, graph.findMinimumSpanningTree().size());
+        assertEquals(0, graph.findShortestPathBetween(5, 5).size());
+    }
+
+    @Test(timeout=2*SECOND)
+    public void testShortestPathAlongLongCorridor() {
+        int length = 100000;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        for (int i = 0; i < length; i++) {
+            vertices.add(i);
+            if (i > 0) {
+                edges.add(edge(i - 1, i, 1.0));
+            }
+        }
+        Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+
+        IList<SimpleEdge<Integer>> path = graph.findShortestPathBetween(0, length - 1);
+        assertEquals(length - 1, path.size());
+        for (int i = 0; i < length - 1; i++) {
+            SimpleEdge<Integer> edge = path.get(i);
+            assertEquals(i, Math.min(edge.getVertex1(), edge.getVertex2()));
+        }
+    }
+
+    private double pathCost(IList<SimpleEdge<Integer>> path) {
+        double cost = 0;
+        for (SimpleEdge<Integer> edge : path) {
+            cost += edge.getWeight();
+        }
+        return cost;
+    }
+
+    @Test(timeout=2*SECOND)
+    public void testAStarMatchesDijkstra() {
+        int size = 40;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        Random rand = new Random(4);
+        for (int vertex = 0; vertex < size * size; vertex++) {
+            vertices.add(vertex);
+            //every edge weighs at least 1, so Manhattan distance is a lower bound
+            if (vertex % size + 1 < size) {
+                edges.add(edge(vertex, vertex + 1, 1 + rand.nextDouble()));
+            }
+            if (vertex / size + 1 < size) {
+                edges.add(edge(vertex, vertex + size, 1 + rand.nextDouble()));
+            }
+        }
+        Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+
+        ToDoubleBiFunction<Integer, Integer> zero = (a, b) -> 0.0;
+        ToDoubleBiFunction<Integer, Integer> manhattan =
+            (a, b) -> Math.abs(a / size - b / size) + Math.abs(a % size - b % size);
+        //still never overestimates, but is inconsistent from one vertex to the next
+        double[] scale = new double[size * size];
+        for (int i = 0; i < scale.length; i++) {
+            scale[i] = rand.nextDouble();
+        }
+        ToDoubleBiFunction<Integer, Integer> noisy = (a, b) -> scale[a] * manhattan.applyAsDouble(a, b);
+
+        for (int end : new int[] {0, 1, size * size - 1, size * 3 + 7, size * size / 2}) {
+            double expected = pathCost(graph.findShortestPathBetween(0, end));
+            assertEquals(expected, pathCost(graph.findShortestPathBetween(0, end, zero)), 1e-9);
+            assertEquals(expected, pathCost(graph.findShortestPathBetween(0, end, manhattan)), 1e-9);
+            assertEquals(expected, pathCost(graph.findShortestPathBetween(0, end, noisy)), 1e-9);
+        }
+    }
+
+    //checks that the edges lead from 'start' to 'end', one after the other
+    private <V> void assertPathConnects(V start, V end, IList<? extends Edge<V>> path) {
+        V current = start;
+        for (Edge<V> edge : path) {
+            current = edge.getOtherVertex(current);
+        }
+        assertEquals(end, current);
+    }
+
+    @Test(timeout=2*SECOND)
+    public void testBidirectionalMatchesDijkstra() {
+        int size = 40;
+        Graph<Integer, SimpleEdge<Integer>> graph = this.buildGridGraph(size);
+        Random rand = new Random(6);
+        for (int i = 0; i < 50; i++) {
+            int start = rand.nextInt(size * size);
+            int end = i == 0 ? size * size - 1 : rand.nextInt(size * size);
+            if (i == 0) {
+                start = 0;
+            }
+            IList<SimpleEdge<Integer>> path = graph.findShortestPathBidirectional(start, end);
+            assertPathConnects(start, end, path);
+            assertEquals(pathCost(graph.findShortestPathBetween(start, end)), pathCost(path), 1e-9);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBidirectionalSmallGraphs() {
+        Graph<String, SimpleEdge<String>> graph = this.buildComplexGraph();
+        IList<SimpleEdge<String>> path = graph.findShortestPathBidirectional("a", "g");
+        assertPathConnects("a", "g", path);
+        assertEquals(5, path.size());
+        assertEquals(0, graph.findShortestPathBidirectional("a", "a").size());
+        assertEquals(1, graph.findShortestPathBidirectional("b", "a").size());
+
+        Graph<String, SimpleEdge<String>> disconnected = this.buildDisconnectedGraph();
+        try {
+            disconnected.findShortestPathBidirectional("a", "i");
+            fail("Expected NoPathExistsException");
+        } catch (NoPathExistsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=2*SECOND)
+    public void testShortestPathTreeMatchesDijkstra() {
+        int size = 30;
+        Graph<Integer, SimpleEdge<Integer>> graph = this.buildGridGraph(size);
+        //computed before any tree is cached
+        double[] expected = new double[size * size];
+        for (int v = 0; v < size * size; v++) {
+            expected[v] = pathCost(graph.findShortestPathBetween(7, v));
+        }
+
+        Graph.ShortestPathTree<Integer, SimpleEdge<Integer>> tree = graph.shortestPathTree(7);
+        assertEquals(7, tree.getSource());
+        assertEquals(0.0, tree.distanceTo(7), 0.0);
+        for (int v = 0; v < size * size; v++) {
+            assertTrue(tree.hasPathTo(v));
+            assertEquals(expected[v], tree.distanceTo(v), 1e-9);
+            IList<SimpleEdge<Integer>> path = tree.pathTo(v);
+            assertPathConnects(7, v, path);
+            assertEquals(expected[v], pathCost(path), 1e-9);
+            //answered from the cached tree now
+            assertEquals(expected[v], pathCost(graph.findShortestPathBetween(7, v)), 1e-9);
+        }
+        assertTrue(tree == graph.shortestPathTree(7));
+    }
+
+    @Test(timeout=SECOND)
+    public void testShortestPathTreeUnreachableAndEviction() {
+        Graph<String, SimpleEdge<String>> graph = this.buildDisconnectedGraph();
+        Graph.ShortestPathTree<String, SimpleEdge<String>> tree = graph.shortestPathTree("a");
+        assertTrue(!tree.hasPathTo("i"));
+        assertEquals(Double.POSITIVE_INFINITY, tree.distanceTo("i"), 0.0);
+        try {
+            tree.pathTo("i");
+            fail("Expected NoPathExistsException");
+        } catch (NoPathExistsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            graph.findShortestPathBetween("a", "i");
+            fail("Expected NoPathExistsException");
+        } catch (NoPathExistsException ex) {
+            // All ok -- expected result
+        }
+
+        //filling the cache with other sources evicts the least recently used tree
+        for (String source : new String[] {"b", "c", "d", "e"}) {
+            graph.shortestPathTree(source);
+        }
+        assertTrue(tree != graph.shortestPathTree("a"));
+        assertEquals(6.0, graph.shortestPathTree("a").distanceTo("g"), 1e-9);
+    }
+
+    @Test(timeout=2*SECOND)
+    public void testConstructLargeGraph() {
+        int size = 300;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        for (int vertex = 0; vertex < size * size; vertex++) {
+            vertices.add(vertex);
+            if (vertex % size > 0) {
+                edges.add(edge(vertex - 1, vertex, 1.0));
+            }
+            if (vertex >= size) {
+                edges.add(edge(vertex - size, vertex, 1.0));
+            }
+        }
+        Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+        assertEquals(size * size, graph.numVertices());
+        assertEquals(2 * size * (size - 1), graph.numEdges());
+        assertEquals(2 * (size - 1), graph.findShortestPathBetween(0, size * size - 1).size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testTrustedConstructorMatchesValidated() {
+        Graph<String, SimpleEdge<String>> validated = this.buildComplexGraph();
+        IList<String> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<String>> edges = new DoubleLinkedList<>();
+        for (String vertex : new String[] {"a", "b", "c", "d", "e", "f", "g"}) {
+            vertices.add(vertex);
+        }
+        for (SimpleEdge<String> edge : validated.findMinimumSpanningTree()) {
+            edges.add(edge);
+        }
+        Graph<String, SimpleEdge<String>> trusted = new Graph<>(vertices, edges, true);
+        assertEquals(vertices.size(), trusted.numVertices());
+        assertEquals(edges.size(), trusted.numEdges());
+        assertEquals(edges.size(), trusted.findMinimumSpanningTree().size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testTrustedConstructorSkipsValidation() {
+        IList<String> vertices = new DoubleLinkedList<>();
+        vertices.add("a");
+        vertices.add("b");
+        IList<SimpleEdge<String>> edges = new DoubleLinkedList<>();
+        edges.add(edge("a", "b", -1));
+
+        Graph<String, SimpleEdge<String>> graph = new Graph<>(vertices, edges, true);
+        assertEquals(1, graph.numEdges());
+        try {
+            new Graph<>(vertices, edges, false);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    private <V> void assertSameEdges(ISet<SimpleEdge<V>> expected, ISet<SimpleEdge<V>> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (SimpleEdge<V> edge : expected) {
+            assertTrue(actual.contains(edge));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBoruvkaSmallGraphs() {
+        Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
+        ISet<SimpleEdge<String>> mst = graph.findMinimumSpanningTree(Graph.MstAlgorithm.BORUVKA);
+        assertEquals(graph.numVertices() - 1, mst.size());
+        assertTrue(mst.contains(edge("a", "d", 1)));
+        assertTrue(mst.contains(edge("a", "b", 2)));
+        assertTrue(mst.contains(edge("b", "e", 3)));
+        assertTrue(mst.contains(edge("a", "c", 5)));
+        assertTrue(mst.contains(edge("d", "f", 6)));
+
+        //self-loops and parallel edges
+        graph = this.buildComplexGraph();
+        assertSameEdges(graph.findMinimumSpanningTree(Graph.MstAlgorithm.KRUSKAL),
+                        graph.findMinimumSpanningTree(Graph.MstAlgorithm.BORUVKA));
+        graph = this.buildMoreComplexGraph();
+        assertSameEdges(graph.findMinimumSpanningTree(Graph.MstAlgorithm.KRUSKAL),
+                        graph.findMinimumSpanningTree(Graph.MstAlgorithm.BORUVKA));
+    }
+
+    @Test(timeout=SECOND)
+    public void testBoruvkaDisconnectedGraphGivesForest() {
+        Graph<String, SimpleEdge<String>> graph = this.buildDisconnectedGraph();
+        ISet<SimpleEdge<String>> kruskal = graph.findMinimumSpanningTree(Graph.MstAlgorithm.KRUSKAL);
+        ISet<SimpleEdge<String>> boruvka = graph.findMinimumSpanningTree(Graph.MstAlgorithm.BORUVKA);
+        assertSameEdges(kruskal, boruvka);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testBoruvkaMatchesKruskalWithTies() {
+        int size = 50;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        //only a handful of distinct weights, so almost every edge is tied with others
+        Random rand = new Random(24);
+        for (int vertex = 0; vertex < size * size; vertex++) {
+            vertices.add(vertex);
+            if (vertex % size > 0) {
+                edges.add(edge(vertex - 1, vertex, rand.nextInt(4)));
+            }
+            if (vertex >= size) {
+                edges.add(edge(vertex - size, vertex, rand.nextInt(4)));
+            }
+        }
+        Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+
+        ISet<SimpleEdge<Integer>> kruskal = graph.findMinimumSpanningTree(Graph.MstAlgorithm.KRUSKAL);
+        assertEquals(size * size - 1, kruskal.size());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 3; i++) {
+                assertSameEdges(kruskal, graph.findMinimumSpanningTree(Graph.MstAlgorithm.BORUVKA, pool));
+            }
+            //too small for AUTO to go parallel
+            assertSameEdges(kruskal, graph.findMinimumSpanningTree(Graph.MstAlgorithm.AUTO, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private <V> double totalWeight(ISet<SimpleEdge<V>> edges) {
+        double total = 0;
+        for (SimpleEdge<V> edge : edges) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+
+    @Test(timeout=SECOND)
+    public void testPrimSmallGraphs() {
+        Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
+        ISet<SimpleEdge<String>> mst = graph.findMinimumSpanningTree(Graph.MstAlgorithm.PRIM);
+        assertEquals(graph.numVertices() - 1, mst.size());
+        assertTrue(mst.contains(edge("a", "d", 1)));
+        assertTrue(mst.contains(edge("a", "b", 2)));
+        assertTrue(mst.contains(edge("b", "e", 3)));
+        assertTrue(mst.contains(edge("a", "c", 5)));
+        assertTrue(mst.contains(edge("d", "f", 6)));
+
+        //self-loops and parallel edges
+        graph = this.buildMoreComplexGraph();
+        ISet<SimpleEdge<String>> kruskal = graph.findMinimumSpanningTree(Graph.MstAlgorithm.KRUSKAL);
+        mst = graph.findMinimumSpanningTree(Graph.MstAlgorithm.PRIM);
+        assertEquals(kruskal.size(), mst.size());
+        assertEquals(totalWeight(kruskal), totalWeight(mst), 1e-9);
+
+        //one tree per component
+        graph = this.buildDisconnectedGraph();
+        kruskal = graph.findMinimumSpanningTree(Graph.MstAlgorithm.KRUSKAL);
+        mst = graph.findMinimumSpanningTree(Graph.MstAlgorithm.PRIM);
+        assertEquals(kruskal.size(), mst.size());
+        assertEquals(totalWeight(kruskal), totalWeight(mst), 1e-9);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testPrimMatchesKruskalOnDenseGraph() {
+        int numVertices = 300;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        Random rand = new Random(9);
+        for (int vertex = 0; vertex < numVertices; vertex++) {
+            vertices.add(vertex);
+            //well above PRIM_DENSITY_THRESHOLD edges per vertex, so AUTO picks Prim
+            for (int i = 0; i < 2 * Graph.PRIM_DENSITY_THRESHOLD; i++) {
+                edges.add(edge(vertex, rand.nextInt(numVertices), rand.nextDouble()));
+            }
+        }
+        Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+
+        ISet<SimpleEdge<Integer>> kruskal = graph.findMinimumSpanningTree(Graph.MstAlgorithm.KRUSKAL);
+        ISet<SimpleEdge<Integer>> prim = graph.findMinimumSpanningTree(Graph.MstAlgorithm.PRIM);
+        //the weights are all distinct, so the tree is unique
+        assertSameEdges(kruskal, prim);
+        assertSameEdges(prim, graph.findMinimumSpanningTree());
+    }
 }
@@ -1,11 +1,16 @@
 package datastructures.dictionaries;
 
+import datastructures.concrete.KVPair;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
 import org.junit.Test;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 
 public class TestChainedHashDictionary extends TestDictionary {
     protected <K, V> IDictionary<K, V> newDictionary() {
@@ -88,4 +93,41 @@ public class TestChainedHashDictionary extends TestDictionary {
             dict.remove(i);
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testIteratorOverLongChainIsLinear() {
+        IDictionary<Wrapper<Integer>, Integer> map = this.newDictionary();
+        int limit = 5000;
+        for (int i = 0; i < limit; i++) {
+            map.put(new Wrapper<>(i, 0), i);
+        }
+
+        // Removing entries leaves holes inside the bucket that must be skipped
+        for (int i = 0; i < limit; i += 2) {
+            map.remove(new Wrapper<>(i, 0));
+        }
+
+        long sum = 0;
+        int count = 0;
+        for (KVPair<Wrapper<Integer>, Integer> pair : map) {
+            sum += pair.getValue();
+            count++;
+        }
+        assertEquals(limit / 2, count);
+        assertEquals((long) limit * limit / 4, sum);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorFailsFastAfterModification() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        Iterator<KVPair<String, String>> iter = dict.iterator();
+        iter.next();
+        dict.remove("keyA");
+        try {
+            iter.next();
+            fail("Expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException ex) {
+            // All ok
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the dictionary tests against ChainedHashDictionary in incremental
+ * rehashing mode.
+ */
+public class TestIncrementalChainedHashDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ChainedHashDictionary<>(8, true);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOperationsDuringRehash() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(8, true);
+        int i = 0;
+        while (!dict.isRehashing()) {
+            dict.put(i, i);
+            i++;
+        }
+
+        // Every key must stay reachable while it is split across both tables
+        for (int j = 0; j < i; j++) {
+            assertTrue(dict.containsKey(j));
+            assertEquals(j, dict.get(j));
+        }
+        dict.put(0, -1);
+        assertEquals(-1, dict.get(0));
+        assertEquals(i, dict.size());
+
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertTrue(pair.getKey() < i);
+            count++;
+        }
+        assertEquals(i, count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRehashFinishesAndShrinks() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(8, true);
+        for (int i = 0; i < 10000; i++) {
+            dict.put(i, i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            dict.remove(i);
+        }
+        assertTrue(dict.isEmpty());
+        // Shrinking is spread over later operations too, and must eventually end
+        for (int i = 0; i < 10000 && dict.isRehashing(); i++) {
+            dict.put(i, i);
+            dict.remove(i);
+        }
+        assertFalse(dict.isRehashing());
+        assertFalse(dict.containsKey(0));
+    }
+
+    @Test(timeout=10*SECOND)
+    public void stressTest() {
+        int limit = 1000000;
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+            assertEquals(i, dict.get(i));
+        }
+
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i, dict.remove(i));
+        }
+        assertTrue(dict.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testUpdateValuesWhileIteratingDuringRehash() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(8, true);
+        int i = 0;
+        while (!dict.isRehashing()) {
+            dict.put(i, i);
+            i++;
+        }
+
+        // Replacing values must not migrate buckets under the iterator
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            dict.put(pair.getKey(), -pair.getKey());
+            count++;
+        }
+        assertTrue(dict.isRehashing());
+        assertEquals(i, count);
+        assertEquals(i, dict.size());
+        for (int j = 0; j < i; j++) {
+            assertEquals(-j, dict.get(j));
+        }
+    }
+}
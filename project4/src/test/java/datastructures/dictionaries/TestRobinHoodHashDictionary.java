@@ -0,0 +1,140 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.RobinHoodHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+public class TestRobinHoodHashDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new RobinHoodHashDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyObjectsWithSameHashCode() {
+        IDictionary<Wrapper<String>, Integer> map = this.newDictionary();
+        for (int i = 0; i < 1000; i++) {
+            map.put(new Wrapper<>("" + i, 0), i);
+        }
+
+        assertEquals(1000, map.size());
+
+        for (int i = 999; i >= 0; i--) {
+            String key = "" + i;
+            assertEquals(i, map.get(new Wrapper<>(key, 0)));
+            assertFalse(map.containsKey(new Wrapper<>(key + "a", 0)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveKeepsCollidingKeysReachable() {
+        IDictionary<Wrapper<Integer>, Integer> map = this.newDictionary();
+        for (int i = 0; i < 200; i++) {
+            map.put(new Wrapper<>(i, i % 3), i);
+        }
+
+        // Removing from the middle of each probe run must shift the rest back
+        for (int i = 0; i < 200; i += 2) {
+            assertEquals(i, map.remove(new Wrapper<>(i, i % 3)));
+        }
+
+        assertEquals(100, map.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 2 == 1, map.containsKey(new Wrapper<>(i, i % 3)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testPresizedDictionary() {
+        IDictionary<Integer, Integer> map = new RobinHoodHashDictionary<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, -i);
+        }
+        assertEquals(1000, map.size());
+        assertEquals(-999, map.get(999));
+        assertEquals(7, map.getOrDefault(1000, 7));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorFailsFastAfterModification() {
+        IDictionary<String, String> map = this.makeBasicDictionary();
+        Iterator<KVPair<String, String>> iter = map.iterator();
+        iter.next();
+        map.put("keyD", "valD");
+        try {
+            iter.hasNext();
+            fail("Expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException ex) {
+            // All ok
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void stressTest() {
+        int limit = 1000000;
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+            assertEquals(i, dict.get(i));
+        }
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, -i);
+        }
+
+        for (int i = 0; i < limit; i++) {
+            assertEquals(-i, dict.get(i));
+            dict.remove(i);
+        }
+        assertTrue(dict.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testUpdateValuesWhileIteratingAtResizeThreshold() {
+        // Covers every size up to a few resizes, including each size that sits
+        // exactly on a resize threshold
+        for (int n = 1; n <= 60; n++) {
+            IDictionary<Integer, Integer> map = this.newDictionary();
+            for (int i = 0; i < n; i++) {
+                map.put(i, i);
+            }
+
+            int count = 0;
+            for (KVPair<Integer, Integer> pair : map) {
+                map.put(pair.getKey(), -pair.getKey());
+                count++;
+            }
+
+            assertEquals(n, count);
+            assertEquals(n, map.size());
+            for (int i = 0; i < n; i++) {
+                assertEquals(-i, map.get(i));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAtResizeThresholdInvalidatesIterator() {
+        IDictionary<Integer, Integer> map = new RobinHoodHashDictionary<>(0);
+        map.put(0, 0);
+        Iterator<KVPair<Integer, Integer>> iter = map.iterator();
+        // Enough new keys to force at least one resize
+        for (int i = 1; i < 100; i++) {
+            map.put(i, i);
+        }
+        try {
+            iter.hasNext();
+            fail("Expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package datastructures.sorting;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import misc.BaseTest;
 import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 /**
  * See spec for details on what kinds of tests this class should include.
  */
@@ -22,4 +28,154 @@ public class TestArrayHeapFunctionality extends BaseTest {
         assertEquals(1, heap.size());
         assertTrue(!heap.isEmpty());
     }
+
+    @Test(timeout=SECOND)
+    public void testHeapifyArrayConstructor() {
+        Integer[] items = new Integer[1000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = (i * 37) % items.length;
+        }
+        ArrayHeap<Integer> heap = new ArrayHeap<>(items);
+        assertEquals(1000, heap.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testHeapifyListConstructor() {
+        IList<Integer> items = new DoubleLinkedList<>();
+        for (int i = 500; i > 0; i--) {
+            items.add(i);
+        }
+        ArrayHeap<Integer> heap = new ArrayHeap<>(items);
+        assertEquals(500, heap.size());
+        assertEquals(500, items.size());
+        for (int i = 1; i <= 500; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testHeapifyEmptyAndSingle() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>(new Integer[0]);
+        assertTrue(heap.isEmpty());
+        heap.insert(4);
+        assertEquals(4, heap.peekMin());
+
+        heap = new ArrayHeap<>(new Integer[] {7});
+        assertEquals(7, heap.removeMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAllIntoExistingHeap() {
+        Random rand = new Random(11);
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        int[] counts = new int[200];
+        for (int round = 0; round < 20; round++) {
+            //alternate between batches that are big and small compared to the heap
+            Integer[] batch = new Integer[round % 2 == 0 ? 3 : 150];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = rand.nextInt(counts.length);
+                counts[batch[i]]++;
+            }
+            heap.insertAll(batch);
+        }
+        for (int value = 0; value < counts.length; value++) {
+            for (int i = 0; i < counts[value]; i++) {
+                assertEquals(value, heap.removeMin());
+            }
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAllRejectsNull() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        heap.insert(5);
+        IList<Integer> items = new DoubleLinkedList<>();
+        items.add(1);
+        items.add(null);
+        try {
+            heap.insertAll(items);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insertAll(new Integer[] {2, null});
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(1, heap.size());
+        assertEquals(5, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEveryArityMatchesSortedOrder() {
+        Random rand = new Random(5);
+        int[] values = new int[5000];
+        int[] counts = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextInt(counts.length);
+            counts[values[i]]++;
+        }
+        for (int numChildren : new int[] {2, 4, 8, 16}) {
+            ArrayHeap<Integer> heap = new ArrayHeap<>(1, numChildren);
+            for (int value : values) {
+                heap.insert(value);
+            }
+            assertEquals(values.length, heap.size());
+            for (int value = 0; value < counts.length; value++) {
+                for (int i = 0; i < counts[value]; i++) {
+                    assertEquals(value, heap.removeMin());
+                }
+            }
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testUnsupportedArity() {
+        for (int numChildren : new int[] {0, 1, 3, 5, 32}) {
+            try {
+                new ArrayHeap<Integer>(10, numChildren);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkConstructorsWithEveryArity() {
+        Random rand = new Random(6);
+        IList<Integer> list = new DoubleLinkedList<>();
+        Integer[] array = new Integer[3000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = rand.nextInt(500);
+            list.add(array[i]);
+        }
+        Integer[] sorted = array.clone();
+        Arrays.sort(sorted);
+        for (int numChildren : new int[] {2, 4, 8, 16}) {
+            ArrayHeap<Integer> fromList = new ArrayHeap<>(list, numChildren);
+            ArrayHeap<Integer> fromArray = new ArrayHeap<>(array, numChildren);
+            assertEquals(array.length, fromList.size());
+            assertEquals(array.length, fromArray.size());
+            for (Integer value : sorted) {
+                assertEquals(value, fromList.removeMin());
+                assertEquals(value, fromArray.removeMin());
+            }
+        }
+        try {
+            new ArrayHeap<>(list, 3);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.DoubleIntHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class TestDoubleIntHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicOrdering() {
+        DoubleIntHeap heap = new DoubleIntHeap(1);
+        double[] keys = {5.5, 3.0, 9.25, 1.0, 7.0, 2.5};
+        for (int i = 0; i < keys.length; i++) {
+            heap.insert(keys[i], i);
+        }
+        assertEquals(6, heap.size());
+        int[] expectedPayloads = {3, 5, 1, 0, 4, 2};
+        for (int payload : expectedPayloads) {
+            assertEquals(keys[payload], heap.peekMinKey(), 0.0);
+            assertEquals(payload, heap.peekMin());
+            assertEquals(payload, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyHeapThrows() {
+        DoubleIntHeap heap = new DoubleIntHeap();
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.peekMinKey();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(Double.NaN, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKeyAndContains() {
+        DoubleIntHeap heap = new DoubleIntHeap(4, 10);
+        heap.insert(10.0, 0);
+        heap.insert(20.0, 1);
+        heap.insert(30.0, 2);
+        assertTrue(heap.contains(2));
+        assertFalse(heap.contains(3));
+
+        heap.decreaseKey(2, 5.0);
+        assertEquals(2, heap.peekMin());
+        assertEquals(5.0, heap.peekMinKey(), 0.0);
+
+        try {
+            heap.decreaseKey(0, 50.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.decreaseKey(3, 1.0);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(1.0, 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+
+        assertEquals(2, heap.removeMin());
+        assertFalse(heap.contains(2));
+        heap.insert(1.0, 2);
+        assertEquals(2, heap.removeMin());
+        assertEquals(0, heap.removeMin());
+        assertEquals(1, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testUnindexedHeapRejectsDecreaseKey() {
+        DoubleIntHeap heap = new DoubleIntHeap();
+        heap.insert(1.0, 0);
+        try {
+            heap.decreaseKey(0, 0.5);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomDecreaseKeysMatchReference() {
+        Random rand = new Random(21);
+        int count = 20000;
+        double[] keys = new double[count];
+        DoubleIntHeap heap = new DoubleIntHeap(16, count);
+        for (int i = 0; i < count; i++) {
+            keys[i] = rand.nextDouble() * 1000;
+            heap.insert(keys[i], i);
+        }
+        for (int i = 0; i < count; i += 2) {
+            keys[i] -= rand.nextDouble() * 100;
+            heap.decreaseKey(i, keys[i]);
+        }
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            double key = heap.peekMinKey();
+            int id = heap.removeMin();
+            assertEquals(keys[id], key, 0.0);
+            assertTrue(key >= previous);
+            previous = key;
+        }
+        assertTrue(heap.isEmpty());
+    }
+}
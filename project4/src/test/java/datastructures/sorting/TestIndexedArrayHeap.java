@@ -0,0 +1,183 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.IndexedArrayHeap;
+import datastructures.interfaces.IPriorityQueue;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+public class TestIndexedArrayHeap extends BaseTest {
+    protected <T extends Comparable<T>> IPriorityQueue<T> makeInstance() {
+        return new IndexedArrayHeap<>();
+    }
+
+    /**
+     * A comparable entry whose equality only depends on its name, so the heap
+     * can look it up regardless of its current priority.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final String name;
+        private final int priority;
+
+        public Entry(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Integer.compare(this.priority, other.priority);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry && ((Entry) o).name.equals(this.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.name.hashCode();
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicOrdering() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        int[] items = {5, 3, 9, 1, 7, 2};
+        for (int item : items) {
+            heap.insert(item);
+        }
+        assertEquals(6, heap.size());
+        int[] expected = {1, 2, 3, 5, 7, 9};
+        for (int item : expected) {
+            assertEquals(item, heap.peekMin());
+            assertEquals(item, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testContainsAndRemove() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        for (int i = 0; i < 20; i++) {
+            heap.insert(i);
+        }
+        assertTrue(heap.contains(7));
+        heap.remove(7);
+        heap.remove(0);
+        heap.remove(19);
+        assertFalse(heap.contains(7));
+        assertEquals(17, heap.size());
+        assertEquals(1, heap.removeMin());
+
+        try {
+            heap.remove(7);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDuplicateAndNullRejected() {
+        IPriorityQueue<Integer> heap = this.makeInstance();
+        heap.insert(1);
+        try {
+            heap.insert(1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKey() {
+        IPriorityQueue<Entry> heap = this.makeInstance();
+        heap.insert(new Entry("a", 10));
+        heap.insert(new Entry("b", 20));
+        heap.insert(new Entry("c", 30));
+
+        heap.decreaseKey(new Entry("c", 30), new Entry("c", 5));
+        assertEquals("c", heap.peekMin().name);
+        assertEquals(5, heap.peekMin().priority);
+
+        try {
+            heap.decreaseKey(new Entry("a", 10), new Entry("a", 50));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.decreaseKey(new Entry("z", 10), new Entry("z", 1));
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+
+        assertEquals("c", heap.removeMin().name);
+        assertEquals("a", heap.removeMin().name);
+        assertEquals("b", heap.removeMin().name);
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKeyComparesAgainstStoredItem() {
+        IPriorityQueue<Entry> heap = this.makeInstance();
+        heap.insert(new Entry("a", 10));
+        heap.insert(new Entry("b", 20));
+        heap.insert(new Entry("c", 5));
+
+        // The caller's copy of "c" is stale: raising it from the stored 5 to 15
+        // is an increase, even though 15 is less than the stale 30
+        try {
+            heap.decreaseKey(new Entry("c", 30), new Entry("c", 15));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+
+        assertEquals("c", heap.removeMin().name);
+        assertEquals("a", heap.removeMin().name);
+        assertEquals("b", heap.removeMin().name);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomOperationsMatchReference() {
+        IPriorityQueue<Entry> heap = this.makeInstance();
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        int[] priorities = new int[20000];
+        Random rand = new Random(3);
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = rand.nextInt(1000000);
+            heap.insert(new Entry("" + i, priorities[i]));
+            reference.add(priorities[i]);
+        }
+        for (int i = 0; i < priorities.length; i += 3) {
+            int decreased = priorities[i] - rand.nextInt(1000);
+            heap.decreaseKey(new Entry("" + i, priorities[i]), new Entry("" + i, decreased));
+            reference.remove(priorities[i]);
+            reference.add(decreased);
+            priorities[i] = decreased;
+        }
+        for (int i = 1; i < priorities.length; i += 3) {
+            heap.remove(new Entry("" + i, priorities[i]));
+            reference.remove(priorities[i]);
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.poll(), (Integer) heap.removeMin().priority);
+        }
+        assertTrue(heap.isEmpty());
+    }
+}
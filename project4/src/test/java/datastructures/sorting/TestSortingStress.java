@@ -175,5 +175,29 @@ public class TestSortingStress extends BaseTest {
         assertEquals(expected.remove(), output.remove()); 
         }
     }
-}
 
+    @Test(timeout=20*SECOND)
+    public void testParallelInputofUnsortedFullK() {
+        int runs = 5000000;
+        List<Integer> list = makeUnsortedList();
+        IList<Integer> output = Searcher.parallelTopKSort(runs, listtoIList(list));
+        Collections.sort(list);
+        assertEquals(runs, output.size());
+        for (int i = 0; i < runs; i++) {
+            assertEquals(list.get(i), output.get(i));
+        }
+    }
+    
+    @Test(timeout=10*SECOND)
+    public void testParallelInputofUnsortedMediumK() {
+        int runs = 5000000;
+        int k = 500;
+        List<Integer> list = makeUnsortedList();
+        IList<Integer> output = Searcher.parallelTopKSort(k, listtoIList(list));
+        Collections.sort(list);
+        assertEquals(k, output.size());
+        for (int i = 0; i < k; i++) {
+            assertEquals(list.get(runs - k + i), output.get(i));
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package datastructures.sorting;
 
+import static org.junit.Assert.fail;
+
 import misc.BaseTest;
+import datastructures.concrete.ArrayBackedList;
+import datastructures.concrete.ArrayHeap;
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IPriorityQueue;
 import datastructures.interfaces.IList;
 import misc.Searcher;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * See spec for details on what kinds of tests this class should include.
  */
@@ -23,4 +32,103 @@ public class TestTopKSortFunctionality extends BaseTest {
             assertEquals(15 + i, top.get(i));
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testEveryKMatchesFullSort() {
+        Random rand = new Random(17);
+        IList<Integer> list = new DoubleLinkedList<>();
+        Integer[] sorted = new Integer[300];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = rand.nextInt(100);
+            list.add(sorted[i]);
+        }
+        Arrays.sort(sorted);
+
+        //covers both the bounded-heap selection and the full sort
+        for (int k = 0; k <= sorted.length + 5; k++) {
+            IList<Integer> top = Searcher.topKSort(k, list);
+            int expectedSize = Math.min(k, sorted.length);
+            assertEquals(expectedSize, top.size());
+            for (int i = 0; i < expectedSize; i++) {
+                assertEquals(sorted[sorted.length - expectedSize + i], top.get(i));
+            }
+        }
+        assertEquals(300, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullElementRejected() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        list.set(15, null);
+        for (int k : new int[] {1, 5, 20}) {
+            try {
+                Searcher.topKSort(k, list);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testReplaceMin() {
+        IPriorityQueue<Integer> heap = new ArrayHeap<>();
+        for (int i = 0; i < 10; i++) {
+            heap.insert(i * 2);
+        }
+        assertEquals(0, heap.replaceMin(7));
+        assertEquals(2, heap.replaceMin(1));
+        assertEquals(10, heap.size());
+        int[] expected = {1, 4, 6, 7, 8, 10, 12, 14, 16, 18};
+        for (int item : expected) {
+            assertEquals(item, heap.removeMin());
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testParallelMatchesSequential() {
+        Random rand = new Random(29);
+        IList<Integer> list = new ArrayBackedList<>();
+        for (int i = 0; i < 50000; i++) {
+            list.add(rand.nextInt(20000));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int k : new int[] {0, 1, 7, 1000, 24999, 25000, 49999, 50000, 60000}) {
+                IList<Integer> expected = Searcher.topKSort(k, list);
+                IList<Integer> actual = Searcher.parallelTopKSort(k, list, pool, 0);
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i), actual.get(i));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(50000, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelRejectsBadInput() {
+        IList<Integer> list = new ArrayBackedList<>();
+        for (int i = 0; i < 20000; i++) {
+            list.add(i);
+        }
+        try {
+            Searcher.parallelTopKSort(-1, list);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        list.set(12345, null);
+        try {
+            Searcher.parallelTopKSort(10, list, ForkJoinPool.commonPool(), 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package misc;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class TestRadixSort extends BaseTest {
+    private void assertSortsLike(double[] keys) {
+        double[] copy = keys.clone();
+        int[] order = RadixSort.sortedOrder(keys);
+        assertTrue(Arrays.equals(copy, keys));
+        assertEquals(keys.length, order.length);
+
+        double[] expected = keys.clone();
+        Arrays.sort(expected);
+        boolean[] seen = new boolean[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            assertTrue(!seen[order[i]]);
+            seen[order[i]] = true;
+            assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(keys[order[i]]));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSmallInputs() {
+        assertSortsLike(new double[] {});
+        assertSortsLike(new double[] {3.5});
+        assertSortsLike(new double[] {2.0, 1.0});
+        assertSortsLike(new double[] {5.0, 0.0, 3.25, 100.0, 0.5, 7.0});
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpecialValues() {
+        assertSortsLike(new double[] {
+            1.0, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.MIN_VALUE,
+            Double.MAX_VALUE, -2.5, Double.NEGATIVE_INFINITY, Double.NaN, -Double.MIN_VALUE
+        });
+    }
+
+    @Test(timeout=SECOND)
+    public void testNegativeNaNSortsLast() {
+        double negativeNaN = Double.longBitsToDouble(0xfff8000000000000L);
+        double[] keys = {1.0, negativeNaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -3.0, Double.NaN};
+        int[] order = RadixSort.sortedOrder(keys);
+        for (int i = 1; i < order.length; i++) {
+            assertTrue(Double.compare(keys[order[i - 1]], keys[order[i]]) <= 0);
+        }
+        assertTrue(Double.isNaN(keys[order[order.length - 1]]));
+        assertTrue(Double.isNaN(keys[order[order.length - 2]]));
+        // Stable: both NaNs compare equal, so they keep their original order
+        assertEquals(1, order[order.length - 2]);
+        assertEquals(5, order[order.length - 1]);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIsStable() {
+        double[] keys = {3.0, 1.0, 3.0, 1.0, 2.0, 3.0};
+        int[] order = RadixSort.sortedOrder(keys);
+        int[] expected = {1, 3, 4, 0, 2, 5};
+        assertTrue(Arrays.equals(expected, order));
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testManyRandomWeights() {
+        Random rand = new Random(13);
+        double[] keys = new double[1000000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rand.nextDouble();
+        }
+        assertSortsLike(keys);
+
+        //few distinct values, so most passes can be skipped
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rand.nextInt(10);
+        }
+        assertSortsLike(keys);
+    }
+}
@@ -0,0 +1,111 @@
+package misc;
+
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+
+public class TestTopKAccumulator extends BaseTest {
+    private <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddOneAtATime() {
+        TopKAccumulator<Integer> top = new TopKAccumulator<>(3);
+        int[] items = {5, 1, 9, 3, 7, 2};
+        for (int item : items) {
+            top.add(item);
+        }
+        assertEquals(3, top.size());
+        IList<Integer> snapshot = top.toSortedList();
+        assertListMatches(new Integer[] {5, 7, 9}, snapshot);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSnapshotLeavesAccumulatorUsable() {
+        TopKAccumulator<Integer> top = new TopKAccumulator<>(4);
+        top.add(10);
+        top.add(20);
+        assertListMatches(new Integer[] {10, 20}, top.toSortedList());
+        top.add(5);
+        top.add(30);
+        top.add(25);
+        assertListMatches(new Integer[] {10, 20, 25, 30}, top.toSortedList());
+        assertListMatches(new Integer[] {10, 20, 25, 30}, top.toSortedList());
+        assertEquals(4, top.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAllFromSetAndIterator() {
+        ISet<Integer> set = new ChainedHashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+        TopKAccumulator<Integer> top = new TopKAccumulator<>(5);
+        top.addAll(set);
+        assertListMatches(new Integer[] {995, 996, 997, 998, 999}, top.toSortedList());
+
+        //a generator that is never materialized as a collection
+        Iterator<Integer> generator = new Iterator<Integer>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < 100000;
+            }
+
+            @Override
+            public Integer next() {
+                this.next++;
+                return (this.next * 7919) % 100003;
+            }
+        };
+        top.addAll(generator);
+        assertEquals(5, top.size());
+        assertEquals(100002, top.toSortedList().get(4));
+    }
+
+    @Test(timeout=SECOND)
+    public void testMatchesFullSort() {
+        Random rand = new Random(2);
+        Integer[] items = new Integer[5000];
+        TopKAccumulator<Integer> top = new TopKAccumulator<>(100);
+        for (int i = 0; i < items.length; i++) {
+            items[i] = rand.nextInt(1000);
+            top.add(items[i]);
+        }
+        Arrays.sort(items);
+        assertListMatches(Arrays.copyOfRange(items, items.length - 100, items.length), top.toSortedList());
+    }
+
+    @Test(timeout=SECOND)
+    public void testZeroAndBadInput() {
+        TopKAccumulator<Integer> top = new TopKAccumulator<>(0);
+        top.add(1);
+        assertEquals(0, top.size());
+        assertEquals(0, top.toSortedList().size());
+
+        try {
+            new TopKAccumulator<Integer>(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            top.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}